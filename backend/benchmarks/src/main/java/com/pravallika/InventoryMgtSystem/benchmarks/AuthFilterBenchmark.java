@@ -0,0 +1,85 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.pravallika.InventoryMgtSystem.metrics.InventoryMetrics;
+import com.pravallika.InventoryMgtSystem.models.User;
+import com.pravallika.InventoryMgtSystem.repositories.UserRepository;
+import com.pravallika.InventoryMgtSystem.security.AuthFilter;
+import com.pravallika.InventoryMgtSystem.security.CustomUserDetailsService;
+import com.pravallika.InventoryMgtSystem.security.JwtUtils;
+import com.pravallika.InventoryMgtSystem.security.VerifiedTokenCache;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthFilter end to end on a mock request: header extraction, token verification (or cache hit)
+ * and security context population. The repository is an in-memory stub, so no database time is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private AuthFilter cachedFilter;
+    private AuthFilter uncachedFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtils jwtUtils = new JwtUtils(Fixtures.JWT_SECRET);
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(stubUserRepository(Fixtures.user()));
+        InventoryMetrics metrics = new InventoryMetrics(new SimpleMeterRegistry());
+
+        cachedFilter = new AuthFilter(jwtUtils, userDetailsService, new VerifiedTokenCache(10_000, 300), metrics);
+        // a zero-sized cache never keeps an entry, so every request verifies the signature
+        uncachedFilter = new AuthFilter(jwtUtils, userDetailsService, new VerifiedTokenCache(0, 300), metrics);
+        authorizationHeader = "Bearer " + jwtUtils.generateToken(Fixtures.user());
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object cachedToken() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public Object verifiedToken() throws Exception {
+        return filter(uncachedFilter);
+    }
+
+    private Object filter(AuthFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/all");
+        request.addHeader("Authorization", authorizationHeader);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static UserRepository stubUserRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,29 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark in this module (or those matching the regex arguments) and writes
+ * the results as JSON, so runs can be compared over time.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("jmh.result", "jmh-result.json"));
+
+        if (args.length == 0) {
+            options.include(BenchmarkRunner.class.getPackageName() + ".*");
+        }
+        for (String include : args) {
+            options.include(include);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,55 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.utils.CsvWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row formatting for the product CSV export, written to a discarding writer so only formatting and
+ * escaping are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvExportBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        products = Fixtures.products(ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void productRows() throws IOException {
+        Writer writer = new BufferedWriter(Writer.nullWriter(), 64 * 1024);
+        CsvWriter csv = new CsvWriter(writer);
+        csv.row("Product ID", "Name", "SKU", "Price", "Stock Quantity", "Category", "Description", "Expiry Date");
+        for (Product product : products) {
+            csv.value(product.getId())
+                    .value(product.getName())
+                    .value(product.getSku())
+                    .value(product.getPrice().setScale(2, RoundingMode.HALF_UP).toPlainString())
+                    .value(product.getStockQuantity())
+                    .value(product.getCategory().getId())
+                    .value(product.getDescription())
+                    .value(product.getExpiryDate())
+                    .endRow();
+        }
+        csv.flush();
+    }
+}
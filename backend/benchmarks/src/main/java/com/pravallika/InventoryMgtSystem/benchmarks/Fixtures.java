@@ -0,0 +1,98 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionDTO;
+import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+import com.pravallika.InventoryMgtSystem.enums.UserRole;
+import com.pravallika.InventoryMgtSystem.models.Category;
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+import com.pravallika.InventoryMgtSystem.models.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Deterministic sample data shared by the benchmarks
+final class Fixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private Fixtures() {
+    }
+
+    static User user() {
+        return User.builder()
+                .id(42L)
+                .name("Bench User")
+                .email("bench@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .phoneNumber("5550100")
+                .role(UserRole.MANAGER)
+                .build();
+    }
+
+    static List<Product> products(int count) {
+        Category category = Category.builder().id(7L).name("Beverages").isDeleted(false).build();
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder()
+                    .id((long) i + 1)
+                    .name("Product " + i)
+                    .sku("SKU-" + i)
+                    .price(BigDecimal.valueOf(1999 + i, 2))
+                    .stockQuantity(i % 500)
+                    .description("Sample product, number " + i + " \"boxed\"")
+                    .expiryDate(LocalDateTime.of(2030, 1, 1, 0, 0).plusDays(i))
+                    .imageUrl("/products/" + i + ".png")
+                    .category(category)
+                    .isDeleted(false)
+                    .build());
+        }
+        return products;
+    }
+
+    static List<Transaction> transactions(int count) {
+        User user = user();
+        List<Product> products = products(16);
+        TransactionType[] types = TransactionType.values();
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = products.get(i % products.size());
+            transactions.add(Transaction.builder()
+                    .id((long) count - i)
+                    .totalProducts(1 + i % 20)
+                    .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(1 + i % 20)))
+                    .transactionType(types[i % types.length])
+                    .status(TransactionStatus.COMPLETED)
+                    .description("Order " + i)
+                    .note(i % 3 == 0 ? "priority, handle with care" : null)
+                    .product(product)
+                    .user(user)
+                    .build());
+        }
+        return transactions;
+    }
+
+    // listing rows as the projection queries build them, one constructor call per result row
+    static List<ProductDTO> productRows(int count) {
+        List<ProductDTO> rows = new ArrayList<>(count);
+        for (Product p : products(count)) {
+            rows.add(new ProductDTO(p.getId(), p.getCategory().getId(), p.getName(), p.getSku(), p.getPrice(),
+                    p.getStockQuantity(), p.getReorderThreshold(), p.getDescription(), p.getExpiryDate(),
+                    p.getImageUrl(), p.getCreatedAt()));
+        }
+        return rows;
+    }
+
+    static List<TransactionDTO> transactionRows(int count) {
+        List<TransactionDTO> rows = new ArrayList<>(count);
+        for (Transaction t : transactions(count)) {
+            rows.add(new TransactionDTO(t.getId(), t.getTotalProducts(), t.getTotalPrice(), t.getTransactionType(),
+                    t.getStatus(), t.getDescription(), t.getNote(), t.getCreatedAt(), t.getUpdateAt()));
+        }
+        return rows;
+    }
+}
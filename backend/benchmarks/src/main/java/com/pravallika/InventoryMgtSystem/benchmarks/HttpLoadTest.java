@@ -0,0 +1,116 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test for comparing the platform-thread and virtual-thread request modes against a running
+ * server. Each client sends one request, waits for the answer and sends the next, so throughput and p99 show how
+ * the server copes with that many concurrent requests. Start the server once normally and once with
+ * {@code --spring.profiles.active=virtual}, then run against each:
+ *
+ * <pre>
+ * java -cp benchmarks.jar -Dload.token=&lt;jwt&gt; -Dload.productId=1 \
+ *      com.pravallika.InventoryMgtSystem.benchmarks.HttpLoadTest
+ * </pre>
+ *
+ * Settings: {@code load.baseUrl} (http://localhost:5050), {@code load.clients} (400), {@code load.seconds} (60),
+ * {@code load.warmupSeconds} (15), {@code load.token}, {@code load.productId}. The sale endpoint sells one unit per
+ * call, so point {@code load.productId} at a product with plenty of stock or sales turn into errors.
+ */
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.baseUrl", "http://localhost:5050");
+        int clients = Integer.getInteger("load.clients", 400);
+        int seconds = Integer.getInteger("load.seconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 15);
+        String token = System.getProperty("load.token", "");
+        String productId = System.getProperty("load.productId", "1");
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        HttpRequest listProducts = HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/all"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        HttpRequest sell = HttpRequest.newBuilder(URI.create(baseUrl + "/api/transactions/sell"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"productId\":" + productId + ",\"quantity\":1,\"description\":\"load test\"}"))
+                .build();
+
+        for (HttpRequest request : List.of(listProducts, sell)) {
+            run(client, request, clients, warmupSeconds);
+            Result result = run(client, request, clients, seconds);
+            System.out.printf("%-6s %-28s clients=%d  %8.1f req/s  p50=%6.1f ms  p99=%7.1f ms  errors=%d%n",
+                    request.method(), request.uri().getPath(), clients, result.throughput(),
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.errors());
+        }
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int clients, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(callers.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        long[] all = futures.stream().map(HttpLoadTest::join).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, seconds, errors.get());
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, int seconds, long errors) {
+
+        double throughput() {
+            return (double) sortedLatencies.length / seconds;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) return 0;
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import com.pravallika.InventoryMgtSystem.security.JwtUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(Fixtures.JWT_SECRET);
+        token = jwtUtils.generateToken(Fixtures.user());
+        tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(Fixtures.user());
+    }
+
+    @Benchmark
+    public Claims parseValidToken() {
+        return jwtUtils.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims parseTamperedToken() {
+        return jwtUtils.parseToken(tamperedToken);
+    }
+}
@@ -0,0 +1,111 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import com.pravallika.InventoryMgtSystem.config.ModelMapperConfig;
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionDTO;
+import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+import com.pravallika.InventoryMgtSystem.images.ProductImageStore;
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The listings' projection path against the ModelMapperConfig bean it replaced, one page per call. The projection
+ * side does what Hibernate and the services do per result row: one DTO constructor call from the selected columns,
+ * plus the image variant URLs for products. The ModelMapper side maps loaded entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private static final Type PRODUCT_DTO_LIST = new TypeToken<List<ProductDTO>>() {}.getType();
+    private static final Type TRANSACTION_DTO_LIST = new TypeToken<List<TransactionDTO>>() {}.getType();
+
+    @Param({"50", "1000"})
+    public int size;
+
+    private ModelMapper modelMapper;
+
+    private List<Product> products;
+    private List<Transaction> transactions;
+    private List<Object[]> productColumns;
+    private List<Object[]> transactionColumns;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapperConfig().modelMapper();
+        products = Fixtures.products(size);
+        transactions = Fixtures.transactions(size);
+
+        productColumns = new ArrayList<>(size);
+        for (Product p : products) {
+            productColumns.add(new Object[]{p.getId(), p.getCategory().getId(), p.getName(), p.getSku(), p.getPrice(),
+                    p.getStockQuantity(), p.getReorderThreshold(), p.getDescription(), p.getExpiryDate(),
+                    p.getImageUrl(), p.getCreatedAt()});
+        }
+        transactionColumns = new ArrayList<>(size);
+        for (Transaction t : transactions) {
+            transactionColumns.add(new Object[]{t.getId(), t.getTotalProducts(), t.getTotalPrice(),
+                    t.getTransactionType(), t.getStatus(), t.getDescription(), t.getNote(), t.getCreatedAt(),
+                    t.getUpdateAt()});
+        }
+    }
+
+    // ProductRepository.findLiveListRows plus the variant URLs getAllProducts adds
+    @Benchmark
+    public List<ProductDTO> productProjection() {
+        List<ProductDTO> rows = new ArrayList<>(productColumns.size());
+        for (Object[] c : productColumns) {
+            ProductDTO row = new ProductDTO((Long) c[0], (Long) c[1], (String) c[2], (String) c[3],
+                    (BigDecimal) c[4], (Integer) c[5], (Integer) c[6], (String) c[7],
+                    (LocalDateTime) c[8], (String) c[9], (LocalDateTime) c[10]);
+            row.setImageVariants(ProductImageStore.variantUrls(row.getImageUrl()));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public List<ProductDTO> productModelMapper() {
+        return modelMapper.map(products, PRODUCT_DTO_LIST);
+    }
+
+    // TransactionListQueries.findListRows
+    @Benchmark
+    public List<TransactionDTO> transactionProjection() {
+        List<TransactionDTO> rows = new ArrayList<>(transactionColumns.size());
+        for (Object[] c : transactionColumns) {
+            rows.add(new TransactionDTO((Long) c[0], (Integer) c[1], (BigDecimal) c[2],
+                    (TransactionType) c[3], (TransactionStatus) c[4], (String) c[5], (String) c[6],
+                    (LocalDateTime) c[7], (LocalDateTime) c[8]));
+        }
+        return rows;
+    }
+
+    // what the listings used to do: map the whole graph, then throw the associations away
+    @Benchmark
+    public List<TransactionDTO> transactionModelMapper() {
+        List<TransactionDTO> dtos = modelMapper.map(transactions, TRANSACTION_DTO_LIST);
+        dtos.forEach(dto -> {
+            dto.setUser(null);
+            dto.setProduct(null);
+            dto.setSupplier(null);
+        });
+        return dtos;
+    }
+}
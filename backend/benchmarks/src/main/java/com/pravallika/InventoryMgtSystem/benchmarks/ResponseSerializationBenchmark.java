@@ -0,0 +1,62 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionDTO;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response JSON serialization with an ObjectMapper configured the way Spring MVC builds its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"50", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private Response productsResponse;
+    private Response transactionsResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ProductDTO> products = Fixtures.productRows(size);
+        productsResponse = Response.builder()
+                .status(200)
+                .message("Products fetched successfully")
+                .products(products)
+                .build();
+
+        List<TransactionDTO> transactions = Fixtures.transactionRows(size);
+        transactionsResponse = Response.builder()
+                .status(200)
+                .message("success")
+                .transactions(transactions)
+                .totalElements((long) size * 10)
+                .totalPages(10)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] products() throws Exception {
+        return objectMapper.writeValueAsBytes(productsResponse);
+    }
+
+    @Benchmark
+    public byte[] transactions() throws Exception {
+        return objectMapper.writeValueAsBytes(transactionsResponse);
+    }
+}
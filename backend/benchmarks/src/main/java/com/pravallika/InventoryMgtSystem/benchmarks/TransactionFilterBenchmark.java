@@ -0,0 +1,88 @@
+package com.pravallika.InventoryMgtSystem.benchmarks;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.pravallika.InventoryMgtSystem.models.Category;
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.models.Supplier;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+import com.pravallika.InventoryMgtSystem.models.User;
+import com.pravallika.InventoryMgtSystem.specification.TransactionFilter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria construction for the transaction specifications, on Hibernate's CriteriaBuilder.
+ * H2 only backs the session factory; no query is executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionFilterBenchmark {
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    private final Specification<Transaction> textFilter = TransactionFilter.byFilter("widget");
+    private final Specification<Transaction> emptyFilter = TransactionFilter.byFilter("");
+    private final Specification<Transaction> cursorPage = TransactionFilter.byFilter("widget")
+            .and(TransactionFilter.idBefore(1_000_000L));
+    private final Specification<Transaction> monthRange = TransactionFilter.createdBetween(
+            LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0));
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Transaction.class)
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Supplier.class)
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Transaction> textFilter() {
+        return build(textFilter);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Transaction> emptyFilter() {
+        return build(emptyFilter);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Transaction> textFilterWithCursor() {
+        return build(cursorPage);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Transaction> monthRange() {
+        return build(monthRange);
+    }
+
+    private CriteriaQuery<Transaction> build(Specification<Transaction> specification) {
+        CriteriaQuery<Transaction> query = criteriaBuilder.createQuery(Transaction.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        return query.where(specification.toPredicate(root, query, criteriaBuilder));
+    }
+}
@@ -0,0 +1,234 @@
+package com.pravallika.InventoryMgtSystem.alerts;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.pravallika.InventoryMgtSystem.dtos.LowStockAlertDTO;
+import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Keeps the set of products at or below their reorder threshold in memory. It is loaded once at startup with a
+ * query for just those products; after that every stock write reports the products it touched through
+ * {@link #refreshAfterCommit(Collection)}, and only those rows are re-read, once the write has committed. So the
+ * listing costs O(alerting products) and nothing ever rescans the catalog.
+ * <p>
+ * Crossings are pushed to subscribers as server-sent events: {@code low-stock} when a product falls to its
+ * threshold (or moves while still under it) and {@code restocked} when it climbs back above, is deleted or loses
+ * its threshold. All updates run on one thread, in commit order. Events are queued per subscriber and sent from a
+ * small sender pool, so a slow client never holds up the updater; a subscriber whose queue fills up is
+ * disconnected, and its EventSource reconnects to a fresh snapshot.
+ */
+@Component
+@Slf4j
+public class LowStockAlertEngine {
+
+    private static final int REFRESH_CHUNK = 1000;
+    private static final int SENDER_THREADS = 2;
+    private static final int SUBSCRIBER_QUEUE = 256;
+
+    private final ProductRepository productRepository;
+    private final Map<Long, LowStockAlertDTO> alerts = new ConcurrentHashMap<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService updater = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "low-stock-alerts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger senderNumber = new AtomicInteger();
+    private final ExecutorService senders = Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "low-stock-alert-sender-" + senderNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LowStockAlertEngine(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        updater.execute(() -> {
+            long started = System.currentTimeMillis();
+            try {
+                alerts.clear();
+                productRepository.findLowStockLevels().forEach(this::apply);
+                log.info("Low-stock alerts loaded with {} products in {} ms", alerts.size(), System.currentTimeMillis() - started);
+            } catch (Exception e) {
+                log.error("Failed to load low-stock alerts: {}", e.getMessage());
+            }
+        });
+    }
+
+    // re-reads the given products once the surrounding database transaction has committed
+    public void refreshAfterCommit(Collection<Long> productIds) {
+        if (!productIds.isEmpty()) afterCommit(List.copyOf(productIds), productRepository::findStockLevelsByIdIn);
+    }
+
+    // for bulk writes that only know the SKUs they touched
+    public void refreshSkusAfterCommit(Collection<String> skus) {
+        if (!skus.isEmpty()) afterCommit(List.copyOf(skus), productRepository::findStockLevelsBySkuIn);
+    }
+
+    public List<LowStockAlertDTO> getAlerts() {
+        List<LowStockAlertDTO> current = new ArrayList<>(alerts.values());
+        // furthest below the threshold first
+        current.sort(Comparator.comparingInt(alert -> stockOf(alert) - alert.getReorderThreshold()));
+        return current;
+    }
+
+    /**
+     * Opens a push stream. The current alerts are sent straight away as a {@code snapshot} event, followed by
+     * {@code low-stock} and {@code restocked} events as they happen. The subscriber is registered and its snapshot
+     * taken on the updater thread, so no event is missed or sent ahead of the snapshot it follows.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        updater.execute(() -> {
+            subscribers.add(subscriber);
+            enqueue(subscriber, new Event("snapshot", getAlerts()));
+        });
+        return emitter;
+    }
+
+    @PreDestroy
+    void stop() {
+        updater.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private <K> void afterCommit(List<K> keys, Function<List<K>, List<StockLevel>> loader) {
+        Runnable refresh = () -> {
+            try {
+                for (int from = 0; from < keys.size(); from += REFRESH_CHUNK) {
+                    loader.apply(keys.subList(from, Math.min(from + REFRESH_CHUNK, keys.size()))).forEach(this::apply);
+                }
+            } catch (Exception e) {
+                log.error("Failed to refresh low-stock alerts: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updater.execute(refresh);
+                }
+            });
+        } else {
+            updater.execute(refresh);
+        }
+    }
+
+    private void apply(StockLevel level) {
+        LowStockAlertDTO previous = alerts.get(level.id());
+
+        if (level.isLow()) {
+            LowStockAlertDTO alert = new LowStockAlertDTO(level.id(), level.name(), level.sku(), level.stockQuantity(),
+                    level.reorderThreshold(), previous != null ? previous.getSince() : LocalDateTime.now());
+            alerts.put(level.id(), alert);
+            if (previous == null || !Objects.equals(previous.getStockQuantity(), alert.getStockQuantity())) {
+                publish("low-stock", alert);
+            }
+        } else if (previous != null) {
+            alerts.remove(level.id());
+            publish("restocked", new LowStockAlertDTO(level.id(), level.name(), level.sku(), level.stockQuantity(),
+                    level.reorderThreshold(), null));
+        }
+    }
+
+    private void publish(String name, LowStockAlertDTO alert) {
+        Event event = new Event(name, alert);
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Event event) {
+        if (!subscriber.queue.offer(event)) {
+            log.warn("Low-stock alert subscriber fell {} events behind, disconnecting it", SUBSCRIBER_QUEUE);
+            subscribers.remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    // one drain per subscriber at a time, so its events go out in the order they were queued
+    private void drain(Subscriber subscriber) {
+        do {
+            Event event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (!send(subscriber, event)) return;
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, Event event) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(event.name()).data(event.data()));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // client went away; the container completes the emitter
+            subscribers.remove(subscriber);
+            return false;
+        }
+    }
+
+    private static int stockOf(LowStockAlertDTO alert) {
+        return alert.getStockQuantity() != null ? alert.getStockQuantity() : 0;
+    }
+
+    private record Event(String name, Object data) {
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
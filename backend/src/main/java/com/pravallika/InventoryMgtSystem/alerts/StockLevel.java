@@ -0,0 +1,11 @@
+package com.pravallika.InventoryMgtSystem.alerts;
+
+// The columns the low-stock engine needs from a product, loaded with a projection query
+public record StockLevel(Long id, String name, String sku, Integer stockQuantity, Integer reorderThreshold,
+                         Boolean isDeleted) {
+
+    public boolean isLow() {
+        return !Boolean.TRUE.equals(isDeleted) && reorderThreshold != null
+                && (stockQuantity != null ? stockQuantity : 0) <= reorderThreshold;
+    }
+}
@@ -0,0 +1,60 @@
+package com.pravallika.InventoryMgtSystem.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-table change counters behind the ETags of the catalog and reference-data listings. The service write
+ * methods bump the counter of the table they change; the listing ETag is built from the counters alone, so a
+ * conditional GET is answered without touching the database or serializing the body.
+ * <p>
+ * Counters are bumped when the write happens and again after its transaction completes, so a listing read
+ * in between is never tagged with the final version. The startup time is part of every tag, which keeps tags
+ * from an earlier run of the application from matching.
+ */
+@Component
+public class CatalogVersions {
+
+    public enum Table {
+        PRODUCTS, CATEGORIES, SUPPLIERS
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Table, AtomicLong> counters = new EnumMap<>(Table.class);
+
+    public CatalogVersions() {
+        for (Table table : Table.values()) {
+            counters.put(table, new AtomicLong());
+        }
+    }
+
+    public void bumpAfterCommit(Table table) {
+        counters.get(table).incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    counters.get(table).incrementAndGet();
+                }
+            });
+        }
+    }
+
+    public long version(Table table) {
+        return counters.get(table).get();
+    }
+
+    // strong ETag for a listing that depends on the given tables; variant tells apart representations of one URL
+    public String etag(String variant, Table... tables) {
+        StringBuilder tag = new StringBuilder("\"").append(variant).append('-').append(epoch);
+        for (Table table : tables) {
+            tag.append('-').append(version(table));
+        }
+        return tag.append('"').toString();
+    }
+}
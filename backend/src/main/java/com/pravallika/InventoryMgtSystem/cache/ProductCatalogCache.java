@@ -0,0 +1,147 @@
+package com.pravallika.InventoryMgtSystem.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of product DTOs by id, plus the live product listing as a single entry.
+ * <p>
+ * Every product write goes through {@link #invalidateAfterCommit(Collection)}: the entries are dropped right away
+ * and again once the surrounding transaction completes, so a reader that loaded the old row in between cannot
+ * leave it behind. Loads that overlap any invalidation are returned but not cached. The same call bumps the
+ * products version in {@link CatalogVersions}.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private final int maxEntries;
+    private final CatalogVersions catalogVersions;
+
+    // guarded by itself; the generation, listing and map only change together under that lock
+    private final Map<Long, ProductDTO> products;
+    private List<ProductDTO> liveProducts;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ProductCatalogCache(CatalogVersions catalogVersions,
+                               @Value("${inventory.products.cache.max-entries:10000}") int maxEntries) {
+        this.catalogVersions = catalogVersions;
+        this.maxEntries = maxEntries;
+        this.products = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProductDTO> eldest) {
+                if (size() <= ProductCatalogCache.this.maxEntries) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    public ProductDTO getProduct(Long id, Function<Long, ProductDTO> loader) {
+        long stamp;
+        synchronized (products) {
+            ProductDTO cached = products.get(id);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            stamp = generation;
+        }
+        misses.increment();
+
+        ProductDTO loaded = loader.apply(id);
+        if (loaded != null) {
+            synchronized (products) {
+                if (generation == stamp) products.put(id, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public List<ProductDTO> getLiveProducts(Supplier<List<ProductDTO>> loader) {
+        long stamp;
+        synchronized (products) {
+            if (liveProducts != null) {
+                hits.increment();
+                return liveProducts;
+            }
+            stamp = generation;
+        }
+        misses.increment();
+
+        List<ProductDTO> loaded = List.copyOf(loader.get());
+        synchronized (products) {
+            if (generation == stamp) liveProducts = loaded;
+        }
+        return loaded;
+    }
+
+    public void invalidateAfterCommit(Collection<Long> productIds) {
+        List<Long> snapshot = List.copyOf(productIds);
+        invalidate(snapshot);
+        catalogVersions.bumpAfterCommit(CatalogVersions.Table.PRODUCTS);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(snapshot);
+                }
+            });
+        }
+    }
+
+    // for bulk writes that touch more products than are worth listing
+    public void invalidateAll() {
+        clear();
+        catalogVersions.bumpAfterCommit(CatalogVersions.Table.PRODUCTS);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public Stats stats() {
+        synchronized (products) {
+            return new Stats(products.size(), hits.sum(), misses.sum(), evictions.sum());
+        }
+    }
+
+    private void invalidate(Collection<Long> productIds) {
+        synchronized (products) {
+            generation++;
+            productIds.forEach(products::remove);
+            //every listing row carries stock, so any product write drops the listing
+            liveProducts = null;
+        }
+    }
+
+    private void clear() {
+        synchronized (products) {
+            generation++;
+            products.clear();
+            liveProducts = null;
+        }
+    }
+
+    public record Stats(int size, long hits, long misses, long evictions) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.pravallika.InventoryMgtSystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits how many API requests run at once to roughly the size of the connection pool. With virtual threads
+ * Tomcat no longer caps concurrency through its worker pool, so without this every request would be admitted
+ * and pile up inside Hikari's connection wait, holding memory and timing out together. Excess requests park
+ * here cheaply instead, and are turned away with a 503 if no slot frees up in time. Streamed exports keep their
+ * slot until the async response completes, since the body is written (and the database read) after the handler
+ * returns. The low-stock event stream is exempt: it is served from memory and stays open indefinitely.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "inventory.db.admission.enabled", havingValue = "true")
+public class DatabaseAdmissionFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final long waitMillis;
+
+    public DatabaseAdmissionFilter(ObjectMapper objectMapper,
+                                   @Value("${inventory.db.admission.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+                                   @Value("${inventory.db.admission.wait-ms:5000}") long waitMillis) {
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.waitMillis = waitMillis;
+        log.info("Admitting at most {} concurrent API requests", maxConcurrent);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // images are served from disk and never touch the database
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") || uri.equals("/api/products/low-stock/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            Response errorResponse = Response.builder()
+                    .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                    .message("Server is busy, please retry shortly")
+                    .build();
+
+            response.setContentType("application/json");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            return;
+        }
+
+        boolean releaseNow = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+                releaseNow = false;
+            }
+        } finally {
+            if (releaseNow) permits.release();
+        }
+    }
+
+    // onError/onTimeout are followed by onComplete, so the permit is released on whichever comes first
+    private class ReleaseOnCompletion implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // startAsync again on a redispatch: stay registered on the new cycle
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) permits.release();
+        }
+    }
+}
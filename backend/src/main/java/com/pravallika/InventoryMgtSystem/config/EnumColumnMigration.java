@@ -0,0 +1,42 @@
+package com.pravallika.InventoryMgtSystem.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hibernate created the transaction type columns as MySQL ENUMs listing the values known at the time, and
+ * ddl-auto=update never alters an existing column, so a new TransactionType (ADJUSTMENT) could not be stored.
+ * This turns those columns into VARCHARs once the schema is up, before the web server accepts requests and before
+ * the startup work that runs on ApplicationReadyEvent touches the tables.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnumColumnMigration implements SmartInitializingSingleton {
+
+    private static final List<String[]> COLUMNS = List.of(
+            new String[]{"transactions", "transaction_type", "VARCHAR(32) NULL"},
+            new String[]{"daily_product_stats", "transaction_type", "VARCHAR(32) NOT NULL"});
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String[] column : COLUMNS) {
+            Integer enums = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() " +
+                    "AND TABLE_NAME = ? AND COLUMN_NAME = ? AND DATA_TYPE = 'enum'",
+                    Integer.class, column[0], column[1]);
+
+            if (enums != null && enums > 0) {
+                jdbcTemplate.execute("ALTER TABLE " + column[0] + " MODIFY " + column[1] + " " + column[2]);
+                log.info("Changed {}.{} from ENUM to {}", column[0], column[1], column[2]);
+            }
+        }
+    }
+}
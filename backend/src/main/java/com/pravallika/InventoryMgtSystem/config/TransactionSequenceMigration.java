@@ -0,0 +1,39 @@
+package com.pravallika.InventoryMgtSystem.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transaction ids used to come from AUTO_INCREMENT and now come from the pooled transactions_seq table, which
+ * ddl-auto=update creates starting at 1 on an existing database. This moves the sequence past MAX(id) plus one
+ * allocation block, so the first block Hibernate hands out cannot reuse an existing id. A sequence that is already
+ * ahead is left alone, so it is safe on every start. It runs once the schema is up and before the web server
+ * accepts requests. Databases with native sequences (H2 in tests) have no such table and are skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionSequenceMigration implements SmartInitializingSingleton {
+
+    // must match the allocationSize of the transaction_seq generator on Transaction
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() " +
+                "AND TABLE_NAME = 'transactions_seq'", Integer.class);
+        if (tables == null || tables == 0) return;
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM transactions", Long.class);
+        long floor = maxId + ALLOCATION_SIZE + 1;
+
+        int updated = jdbcTemplate.update("UPDATE transactions_seq SET next_val = ? WHERE next_val < ?", floor, floor);
+        if (updated > 0) log.info("Moved transactions_seq to {} (transactions go up to id {})", floor, maxId);
+    }
+}
@@ -1,20 +1,27 @@
 package com.pravallika.InventoryMgtSystem.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.io.File;
+import com.pravallika.InventoryMgtSystem.images.ProductImageStore;
+
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    private static final String IMAGE_DIRECTORY = new File("backend/product-images").getAbsolutePath();
+    private final ProductImageStore productImageStore;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // stored file names never change content (new uploads get new names), so clients may cache them for good;
+        // the resource handler also answers Range and conditional requests
         registry.addResourceHandler("/images/**")
-                .addResourceLocations("file:" + IMAGE_DIRECTORY + "/")
-                .setCachePeriod(3600);
+                .addResourceLocations("file:" + productImageStore.getDirectory() + "/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
     }
 }
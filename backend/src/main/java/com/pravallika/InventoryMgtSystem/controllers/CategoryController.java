@@ -3,10 +3,13 @@ package com.pravallika.InventoryMgtSystem.controllers;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.pravallika.InventoryMgtSystem.cache.CatalogVersions;
 import com.pravallika.InventoryMgtSystem.dtos.CategoryDTO;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
 import com.pravallika.InventoryMgtSystem.services.CategoryService;
@@ -17,6 +20,7 @@ import com.pravallika.InventoryMgtSystem.services.CategoryService;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CatalogVersions catalogVersions;
 
     @PostMapping("/add")
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -26,8 +30,20 @@ public class CategoryController {
 
 
     @GetMapping("/all")
-    public ResponseEntity<Response> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<Response> getAllCategories(@RequestParam(defaultValue = "false") boolean summary,
+                                                     WebRequest request) {
+        // both forms embed product data, so they change with the products table as well
+        String etag = catalogVersions.etag(summary ? "categories-summary" : "categories",
+                CatalogVersions.Table.CATEGORIES, CatalogVersions.Table.PRODUCTS);
+        if (request.checkNotModified(etag)) {
+            return null; // 304, nothing loaded or serialized
+        }
+        Response response = summary ? categoryService.getCategorySummaries() : categoryService.getAllCategories();
+        // clients may keep the body but must revalidate it on every use
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
     }
 
     @GetMapping("/{id}")
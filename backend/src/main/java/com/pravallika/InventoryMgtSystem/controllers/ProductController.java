@@ -1,26 +1,47 @@
 package com.pravallika.InventoryMgtSystem.controllers;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.pravallika.InventoryMgtSystem.alerts.LowStockAlertEngine;
+import com.pravallika.InventoryMgtSystem.cache.CatalogVersions;
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
 import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
 import com.pravallika.InventoryMgtSystem.services.ProductService;
 
-import java.io.PrintWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
     private final ProductService productService;
+    private final CatalogVersions catalogVersions;
+    private final LowStockAlertEngine lowStockAlertEngine;
 
     // ✅ Manual constructor instead of @RequiredArgsConstructor
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, CatalogVersions catalogVersions,
+                             LowStockAlertEngine lowStockAlertEngine) {
         this.productService = productService;
+        this.catalogVersions = catalogVersions;
+        this.lowStockAlertEngine = lowStockAlertEngine;
     }
 
     @PostMapping("/add")
@@ -32,7 +53,8 @@ public class ProductController {
             @RequestParam("price") BigDecimal price,
             @RequestParam("stockQuantity") Integer stockQuantity,
             @RequestParam("categoryId") Long categoryId,
-            @RequestParam(value = "description", required = false) String description
+            @RequestParam(value = "description", required = false) String description,
+            @RequestParam(value = "reorderThreshold", required = false) Integer reorderThreshold
     ) {
         ProductDTO productDTO = new ProductDTO();
         productDTO.setName(name);
@@ -41,6 +63,7 @@ public class ProductController {
         productDTO.setStockQuantity(stockQuantity);
         productDTO.setCategoryId(categoryId);
         productDTO.setDescription(description);
+        productDTO.setReorderThreshold(reorderThreshold);
 
         return ResponseEntity.ok(productService.saveProduct(productDTO, imageFile));
     }
@@ -55,6 +78,7 @@ public class ProductController {
             @RequestParam(value = "stockQuantity", required = false) Integer stockQuantity,
             @RequestParam(value = "categoryId", required = false) Long categoryId,
             @RequestParam(value = "description", required = false) String description,
+            @RequestParam(value = "reorderThreshold", required = false) Integer reorderThreshold,
             @RequestParam("productId") Long productId
     ) {
         ProductDTO productDTO = new ProductDTO();
@@ -65,13 +89,33 @@ public class ProductController {
         productDTO.setStockQuantity(stockQuantity);
         productDTO.setCategoryId(categoryId);
         productDTO.setDescription(description);
+        productDTO.setReorderThreshold(reorderThreshold);
 
         return ResponseEntity.ok(productService.updateProduct(productDTO, imageFile));
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Response> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<Response> getAllProducts(WebRequest request) {
+        String etag = catalogVersions.etag("products", CatalogVersions.Table.PRODUCTS);
+        if (request.checkNotModified(etag)) {
+            return null; // 304, nothing loaded or serialized
+        }
+        // clients may keep the body but must revalidate it on every use
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(productService.getAllProducts());
+    }
+
+    @GetMapping("/low-stock")
+    public ResponseEntity<Response> getLowStockProducts() {
+        return ResponseEntity.ok(productService.getLowStockProducts());
+    }
+
+    // server-sent events: a snapshot first, then low-stock / restocked as products cross their thresholds
+    @GetMapping(value = "/low-stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLowStockAlerts() {
+        return lowStockAlertEngine.subscribe();
     }
 
     @GetMapping("/{id}")
@@ -85,8 +129,11 @@ public class ProductController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Response> searchProduct(@RequestParam String input) {
-        return ResponseEntity.ok(productService.searchProduct(input));
+    public ResponseEntity<Response> searchProduct(
+            @RequestParam String input,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(productService.searchProduct(input, page, size));
     }
     @PutMapping("/{id}/reduceStock")
     public ResponseEntity<Response> reduceStock(
@@ -94,46 +141,32 @@ public class ProductController {
         @RequestParam Integer quantity) {
         return ResponseEntity.ok(productService.reduceStock(id, quantity));
     }
-    @GetMapping("/download/csv")
-    public ResponseEntity<byte[]> downloadProductsCSV() {
-        List<ProductDTO> products = productService.getAllProductsDTO(); // create this in service
-
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             PrintWriter writer = new PrintWriter(baos)) {
-
-            // CSV header
-            writer.println("Product ID,Name,SKU,Price,Stock Quantity,Category,Description,Expiry Date");
-
-            // CSV rows
-            for (ProductDTO p : products) {
-                String categoryName = p.getCategoryId() != null ? p.getCategoryId().toString() : "";
-                String description = p.getDescription() != null ? p.getDescription().replace(",", ";") : "";
-                String expiry = p.getExpiryDate() != null ? p.getExpiryDate().toString() : "";
-
-                writer.printf("%d,%s,%s,%.2f,%d,%s,%s,%s%n",
-                        p.getProductId(),
-                        p.getName(),
-                        p.getSku(),
-                        p.getPrice(),
-                        p.getStockQuantity(),
-                        categoryName,
-                        description,
-                        expiry
-                );
-            }
-            writer.flush();
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ProductCatalogCache.Stats> getCatalogCacheStats() {
+        return ResponseEntity.ok(productService.getCatalogCacheStats());
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products.csv");
+    // raw text/csv body rather than multipart, so a catalog of any size is parsed as it arrives
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Response> importProducts(InputStream body) throws IOException {
+        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        return ResponseEntity.ok(productService.importProductsCsv(reader));
+    }
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .contentType(MediaType.parseMediaType("text/csv"))
-                    .body(baos.toByteArray());
+    @GetMapping("/download/csv")
+    public ResponseEntity<StreamingResponseBody> downloadProductsCSV() {
+        // rows are written to the response as they are read from the database
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            productService.writeProductsCsv(writer);
+            writer.flush();
+        };
 
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body(null);
-        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products.csv")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(body);
     }
 }
-
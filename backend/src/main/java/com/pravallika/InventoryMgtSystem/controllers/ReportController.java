@@ -0,0 +1,42 @@
+package com.pravallika.InventoryMgtSystem.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.services.ReportService;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService reportService;
+
+    // totals per transaction type for an inclusive date range
+    @GetMapping("/summary")
+    public ResponseEntity<Response> getSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.getSummary(from, to));
+    }
+
+    // totals per product and transaction type for an inclusive date range
+    @GetMapping("/products")
+    public ResponseEntity<Response> getProductStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.getProductStats(from, to));
+    }
+
+    @PostMapping("/backfill")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Response> backfillDailyStats() {
+        return ResponseEntity.ok(reportService.backfillDailyStats());
+    }
+}
@@ -3,10 +3,13 @@ package com.pravallika.InventoryMgtSystem.controllers;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.pravallika.InventoryMgtSystem.cache.CatalogVersions;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
 import com.pravallika.InventoryMgtSystem.dtos.SupplierDTO;
 import com.pravallika.InventoryMgtSystem.services.SupplierService;
@@ -17,6 +20,7 @@ import com.pravallika.InventoryMgtSystem.services.SupplierService;
 public class SupplierController {
 
     private final SupplierService supplierService;
+    private final CatalogVersions catalogVersions;
 
     @PostMapping("/add")
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -26,8 +30,16 @@ public class SupplierController {
 
 
     @GetMapping("/all")
-    public ResponseEntity<Response> getAllSuppliers() {
-        return ResponseEntity.ok(supplierService.getAllSupplier());
+    public ResponseEntity<Response> getAllSuppliers(WebRequest request) {
+        String etag = catalogVersions.etag("suppliers", CatalogVersions.Table.SUPPLIERS);
+        if (request.checkNotModified(etag)) {
+            return null; // 304, nothing loaded or serialized
+        }
+        // clients may keep the body but must revalidate it on every use
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(supplierService.getAllSupplier());
     }
 
     @GetMapping("/{id}")
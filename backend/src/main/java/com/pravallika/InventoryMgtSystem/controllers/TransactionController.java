@@ -2,14 +2,29 @@ package com.pravallika.InventoryMgtSystem.controllers;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.dtos.StockCountLine;
 import com.pravallika.InventoryMgtSystem.dtos.TransactionRequest;
 import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
+import com.pravallika.InventoryMgtSystem.exceptions.NameValueRequiredException;
+import com.pravallika.InventoryMgtSystem.services.StockTakeService;
 import com.pravallika.InventoryMgtSystem.services.TransactionService;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/transactions")
 @RequiredArgsConstructor
@@ -17,6 +32,7 @@ public class TransactionController {
 
 
     private final TransactionService transactionService;
+    private final StockTakeService stockTakeService;
 
     @PostMapping("/purchase")
     public ResponseEntity<Response> purchaseInventory(@RequestBody @Valid TransactionRequest transactionRequest) {
@@ -33,17 +49,54 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.returnToSupplier(transactionRequest));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Response> processBatch(@RequestBody List<@Valid TransactionRequest> transactionRequests) {
+        return ResponseEntity.ok(transactionService.processBatch(transactionRequests));
+    }
+
+    @PostMapping("/stock-take")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Response> applyStockTake(@RequestBody List<@Valid StockCountLine> countSheet) {
+        return ResponseEntity.ok(stockTakeService.applyStockTake(countSheet));
+    }
+
     @GetMapping("/all")
     public ResponseEntity<Response> getAllTransactions(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "1000") int size,
-            @RequestParam(required = false) String filter) {
-
-        System.out.println("SEARCH VALUE IS: " +filter);
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        //cursor mode: seek on the id instead of OFFSET paging
+        if (after != null || limit != null) {
+            return ResponseEntity.ok(transactionService.getTransactionsAfter(after, limit != null ? limit : 50, filter, includeTotal));
+        }
         return ResponseEntity.ok(transactionService.getAllTransactions(page, size, filter));
     }
 
 
+    @GetMapping("/download/csv")
+    public ResponseEntity<StreamingResponseBody> downloadTransactionsCSV(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        // checked before the body goes async, while the error can still be sent as the usual JSON 400
+        if (to.isBefore(from)) throw new NameValueRequiredException("to date must not be before from date");
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            transactionService.writeTransactionsCsv(from, to, writer);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=transactions.csv")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response> getTransactionById(@PathVariable Long id) {
         return ResponseEntity.ok(transactionService.getAllTransactionById(id));
@@ -57,6 +110,14 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.getAllTransactionByMonthAndYear(month, year));
     }
 
+    @GetMapping("/monthly-summary")
+    public ResponseEntity<Response> getMonthlySummary(
+            @RequestParam int month,
+            @RequestParam int year) {
+
+        return ResponseEntity.ok(transactionService.getMonthlySummary(month, year));
+    }
+
     @PutMapping("/{transactionId}")
     public ResponseEntity<Response> updateTransactionStatus(
             @PathVariable Long transactionId,
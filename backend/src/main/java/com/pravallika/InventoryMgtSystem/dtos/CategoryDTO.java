@@ -22,8 +22,13 @@ public class CategoryDTO {
     private String name;
 
     private List<ProductDTO> products;
-    
-
 
+    // only set in summary mode, instead of the product list
+    private Long productCount;
 
+    public CategoryDTO(Long id, String name, Long productCount) {
+        this.id = id;
+        this.name = name;
+        this.productCount = productCount;
+    }
 }
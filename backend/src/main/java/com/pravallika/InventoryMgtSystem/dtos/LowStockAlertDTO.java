@@ -0,0 +1,29 @@
+package com.pravallika.InventoryMgtSystem.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// A product at or below its reorder threshold, and since when the engine has seen it there
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LowStockAlertDTO {
+
+    private Long productId;
+
+    private String name;
+
+    private String sku;
+
+    private Integer stockQuantity;
+
+    private Integer reorderThreshold;
+
+    private LocalDateTime since;
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @AllArgsConstructor
@@ -30,11 +31,29 @@ public class ProductDTO {
 
     private Integer stockQuantity;
 
+    private Integer reorderThreshold;
+
     private String description;
     private LocalDateTime expiryDate;
     private String imageUrl;
+    private Map<String, String> imageVariants; // resized copies of the image, by variant name
 
     private LocalDateTime createdAt;
 
-
+    // listing projection, in the shape ProductMapper produces
+    public ProductDTO(Long productId, Long categoryId, String name, String sku, BigDecimal price, Integer stockQuantity,
+                      Integer reorderThreshold, String description, LocalDateTime expiryDate, String imageUrl,
+                      LocalDateTime createdAt) {
+        this.productId = productId;
+        this.categoryId = categoryId;
+        this.name = name;
+        this.sku = sku;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+        this.reorderThreshold = reorderThreshold;
+        this.description = description;
+        this.expiryDate = expiryDate;
+        this.imageUrl = imageUrl;
+        this.createdAt = createdAt;
+    }
 }
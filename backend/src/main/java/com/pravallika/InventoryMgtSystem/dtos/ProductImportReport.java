@@ -0,0 +1,33 @@
+package com.pravallika.InventoryMgtSystem.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of a bulk product import; only the first few row errors are listed, errorCount has the full number
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductImportReport {
+
+    private long totalRows;
+
+    private long importedRows;
+
+    private long errorCount;
+
+    private long elapsedMillis;
+
+    private long rowsPerSecond;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    public record RowError(long line, String sku, String message) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.pravallika.InventoryMgtSystem.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductStatsDTO {
+
+    private Long productId;
+
+    private TransactionType transactionType;
+
+    private Long transactionCount;
+
+    private Long totalProducts;
+
+    private BigDecimal totalPrice;
+}
@@ -26,6 +26,7 @@ public class Response {
     //for pagination
     private Integer totalPages;
     private Long totalElements;
+    private String nextCursor;
 
     //data output optionals
     private UserDTO user;
@@ -43,6 +44,13 @@ public class Response {
     private TransactionDTO transaction;
     private List<TransactionDTO> transactions;
 
+    private List<TransactionSummaryDTO> summaries;
+    private List<ProductStatsDTO> productStats;
+
+    private ProductImportReport importReport;
+
+    private List<LowStockAlertDTO> lowStockAlerts;
+
     private final LocalDateTime timestamp = LocalDateTime.now();
 
 
@@ -0,0 +1,25 @@
+package com.pravallika.InventoryMgtSystem.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One line of a stock-take count sheet
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StockCountLine {
+
+    @NotBlank(message = "sku is required")
+    private String sku;
+
+    @NotNull(message = "counted quantity is required")
+    @Min(value = 0, message = "counted quantity cannot be negative")
+    private Integer countedQuantity;
+}
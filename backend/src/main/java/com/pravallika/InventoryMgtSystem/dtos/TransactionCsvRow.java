@@ -0,0 +1,22 @@
+package com.pravallika.InventoryMgtSystem.dtos;
+
+import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// One line of the transactions CSV export, selected directly so no entities are loaded while streaming
+public record TransactionCsvRow(Long id,
+                                LocalDateTime createdAt,
+                                TransactionType transactionType,
+                                TransactionStatus status,
+                                Integer totalProducts,
+                                BigDecimal totalPrice,
+                                Long productId,
+                                String productName,
+                                String productSku,
+                                String supplierName,
+                                String description,
+                                String note) {
+}
@@ -43,5 +43,18 @@ public class TransactionDTO {
 
     private SupplierDTO supplier;
 
-
+    // listing projection: the transaction's own columns only
+    public TransactionDTO(Long id, Integer totalProducts, BigDecimal totalPrice, TransactionType transactionType,
+                          TransactionStatus status, String description, String note,
+                          LocalDateTime createdAt, LocalDateTime updateAt) {
+        this.id = id;
+        this.totalProducts = totalProducts;
+        this.totalPrice = totalPrice;
+        this.transactionType = transactionType;
+        this.status = status;
+        this.description = description;
+        this.note = note;
+        this.createdAt = createdAt;
+        this.updateAt = updateAt;
+    }
 }
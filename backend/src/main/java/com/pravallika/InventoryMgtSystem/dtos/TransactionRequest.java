@@ -2,7 +2,7 @@ package com.pravallika.InventoryMgtSystem.dtos;
 
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
 
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -27,5 +27,8 @@ public class TransactionRequest {
 
     private String note;
 
+    // only used by the batch endpoint, where each line says whether it is a purchase, sale or return
+    private TransactionType transactionType;
+
 
 }
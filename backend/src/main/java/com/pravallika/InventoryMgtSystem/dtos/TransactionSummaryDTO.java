@@ -0,0 +1,26 @@
+package com.pravallika.InventoryMgtSystem.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Per-type totals for a period, computed with GROUP BY in the database
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionSummaryDTO {
+
+    private TransactionType transactionType;
+
+    private Long transactionCount;
+
+    private Long totalProducts;
+
+    private BigDecimal totalPrice;
+}
@@ -36,4 +36,13 @@ public class UserDTO {
 
     private LocalDateTime createdAt;
 
+    // listing projection: no password, no transactions
+    public UserDTO(Long id, String name, String email, String phoneNumber, UserRole role, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.role = role;
+        this.createdAt = createdAt;
+    }
 }
@@ -1,5 +1,7 @@
 package com.pravallika.InventoryMgtSystem.enums;
 
 public enum TransactionType {
-    PURCHASE, SALE, RETURN_TO_SUPPLIER
+    PURCHASE, SALE, RETURN_TO_SUPPLIER,
+    // stock-take correction; totalProducts and totalPrice are signed (negative for shrinkage)
+    ADJUSTMENT
 }
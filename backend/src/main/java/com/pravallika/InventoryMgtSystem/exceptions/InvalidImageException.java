@@ -0,0 +1,7 @@
+package com.pravallika.InventoryMgtSystem.exceptions;
+
+public class InvalidImageException extends RuntimeException {
+    public InvalidImageException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,321 @@
+package com.pravallika.InventoryMgtSystem.images;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.pravallika.InventoryMgtSystem.exceptions.InvalidImageException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed storage for product images. Originals are named by the SHA-256 of their bytes, so the same
+ * upload is stored once however many products use it. Resized variants are generated with ImageIO on a bounded
+ * background executor and named after the original, which lets {@link #variantUrls(String)} derive their URLs
+ * from the image URL alone. Dimensions are read from the image header before anything is decoded, so a small file
+ * that declares a huge canvas is rejected instead of being inflated in memory.
+ */
+@Component
+@Slf4j
+public class ProductImageStore {
+
+    // variant name -> longest side in pixels
+    private static final Map<String, Integer> VARIANTS = Map.of("thumb", 200, "medium", 600);
+    private static final int LARGEST_VARIANT = 600;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SNIFF_LENGTH = 12;
+    private static final Pattern STORED_NAME = Pattern.compile("([0-9a-f]{64})\\.([a-z]+)$");
+
+    private final Path directory;
+    private final String baseUrl;
+    private final long maxBytes;
+    private final long maxPixels;
+    private final ThreadPoolExecutor thumbnailer;
+
+    public ProductImageStore(@Value("${inventory.images.directory:backend/product-images}") String directory,
+                             @Value("${inventory.images.base-url:http://localhost:5050/images/}") String baseUrl,
+                             @Value("${inventory.images.max-bytes:10485760}") long maxBytes,
+                             @Value("${inventory.images.max-pixels:40000000}") long maxPixels,
+                             @Value("${inventory.images.thumbnail-threads:2}") int threads,
+                             @Value("${inventory.images.thumbnail-queue:256}") int queueCapacity) {
+        this.directory = Path.of(directory).toAbsolutePath();
+        this.baseUrl = baseUrl;
+        this.maxBytes = maxBytes;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.thumbnailer = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "image-thumbnailer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        thumbnailer.shutdownNow();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Streams the upload to a temp file through one fixed-size buffer, hashing it on the way, then stores it under
+     * the hash of its content and queues its variants. The type is taken from the leading magic bytes, and the copy
+     * stops as soon as the content turns out not to be an image or grows past the size limit. The width and height
+     * in the header must stay within the pixel limit.
+     *
+     * @return the public URL of the original
+     * @throws InvalidImageException if the content is not a supported image or is too large
+     */
+    public String store(MultipartFile imageFile) throws IOException {
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            String extension = null;
+            long total = 0;
+
+            try (InputStream in = imageFile.getInputStream(); OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                    if (extension == null) {
+                        extension = sniffExtension(buffer, read);
+                        if (extension == null) throw new InvalidImageException("Only JPEG, PNG, GIF, BMP and WebP images are accepted");
+                    }
+                    total += read;
+                    if (total > maxBytes) throw new InvalidImageException("Image is larger than " + maxBytes + " bytes");
+
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (extension == null) throw new InvalidImageException("Image is empty");
+            checkDimensions(temp);
+
+            String name = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            Path target = directory.resolve(name);
+            if (Files.exists(target)) {
+                log.debug("Image {} already stored, reusing it", name);
+            } else {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            scheduleVariants(target);
+            return baseUrl + name;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Removes an original and its variants. Callers only do this once no product refers to the image any more.
+     */
+    public void delete(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(baseUrl)) return;
+        String name = imageUrl.substring(baseUrl.length());
+        if (name.contains("/") || name.contains("\\") || name.contains("..")) return;
+
+        try {
+            Files.deleteIfExists(directory.resolve(name));
+            Matcher matcher = STORED_NAME.matcher(name);
+            if (matcher.matches()) {
+                for (String variant : VARIANTS.keySet()) {
+                    Files.deleteIfExists(directory.resolve(variantName(matcher.group(1), variant, matcher.group(2))));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete image {}: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Variant URLs for a stored image, e.g. {@code thumb -> .../<sha256>-thumb.jpg}. Null for images stored
+     * before content addressing, which have no variants.
+     */
+    public static Map<String, String> variantUrls(String imageUrl) {
+        if (imageUrl == null) return null;
+        Matcher matcher = STORED_NAME.matcher(imageUrl);
+        if (!matcher.find() || matcher.start() == 0 || imageUrl.charAt(matcher.start() - 1) != '/') return null;
+
+        String prefix = imageUrl.substring(0, matcher.start());
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String variant : VARIANTS.keySet()) {
+            urls.put(variant, prefix + variantName(matcher.group(1), variant, matcher.group(2)));
+        }
+        return urls;
+    }
+
+    private void scheduleVariants(Path original) {
+        try {
+            thumbnailer.execute(() -> writeVariants(original));
+        } catch (RejectedExecutionException e) {
+            // the original is stored and served; only the resized copies are missing until the image is re-uploaded
+            log.warn("Thumbnail queue full, skipping variants for {}", original.getFileName());
+        }
+    }
+
+    private void writeVariants(Path original) {
+        Matcher matcher = STORED_NAME.matcher(original.getFileName().toString());
+        if (!matcher.matches()) return;
+        String hash = matcher.group(1);
+        String format = variantFormat(matcher.group(2));
+
+        try {
+            BufferedImage source = null;
+            for (Map.Entry<String, Integer> variant : VARIANTS.entrySet()) {
+                Path target = directory.resolve(variantName(hash, variant.getKey(), matcher.group(2)));
+                if (Files.exists(target)) continue;
+
+                if (source == null) {
+                    source = readForVariants(original);
+                    if (source == null) return;
+                }
+
+                Path temp = Files.createTempFile(directory, "variant-", ".tmp");
+                try {
+                    ImageIO.write(resize(source, variant.getValue(), format), format, temp.toFile());
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to generate variants for {}: {}", original.getFileName(), e.getMessage());
+        }
+    }
+
+    private void checkDimensions(Path image) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(image.toFile())) {
+            ImageReader reader = readerFor(in);
+            // no reader (WebP without a plugin): stored as is, and no variants are generated for it
+            if (reader == null) return;
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) throw new InvalidImageException("Image is larger than " + maxPixels + " pixels");
+            } catch (IOException e) {
+                throw new InvalidImageException("Image could not be read");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // decodes only every n-th pixel in each direction, n chosen so the result still covers the largest variant
+    private BufferedImage readForVariants(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            ImageReader reader = readerFor(in);
+            if (reader == null) {
+                log.warn("No ImageIO reader for {}, no variants generated", original.getFileName());
+                return null;
+            }
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("{} is {}x{}, over the pixel limit, no variants generated", original.getFileName(), width, height);
+                    return null;
+                }
+
+                int step = Math.max(1, Math.max(width, height) / LARGEST_VARIANT);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static ImageReader readerFor(ImageInputStream in) {
+        if (in == null) return null;
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    // fits the image into a square of the given size, never enlarging it
+    private static BufferedImage resize(BufferedImage source, int maxSide, String format) {
+        double scale = Math.min(1.0, (double) maxSide / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        int type = format.equals("jpg") ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static String variantName(String hash, String variant, String originalExtension) {
+        return hash + "-" + variant + "." + variantFormat(originalExtension);
+    }
+
+    // JPEG stays JPEG; everything else becomes PNG so transparency survives
+    private static String variantFormat(String originalExtension) {
+        return originalExtension.equals("jpg") ? "jpg" : "png";
+    }
+
+    // file type from the leading bytes; the client's file name and content type are not trusted
+    static String sniffExtension(byte[] head, int length) {
+        if (length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) return "jpg";
+        if (length >= 8 && startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return "png";
+        if (length >= 6 && (startsWith(head, 0, 'G', 'I', 'F', '8', '7', 'a') || startsWith(head, 0, 'G', 'I', 'F', '8', '9', 'a'))) return "gif";
+        if (length >= 2 && startsWith(head, 0, 'B', 'M')) return "bmp";
+        if (length >= SNIFF_LENGTH && startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) return "webp";
+        return null;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int... expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if ((bytes[offset + i] & 0xFF) != expected[i]) return false;
+        }
+        return true;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.pravallika.InventoryMgtSystem.images;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many multipart uploads are received at once. It runs ahead of every other filter, before the
+ * container reads the body, so a burst of large uploads waits briefly or gets a 503 instead of tying up
+ * request threads and temp space.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UploadConcurrencyFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final long waitMillis;
+
+    public UploadConcurrencyFilter(ObjectMapper objectMapper,
+                                   @Value("${inventory.images.max-concurrent-uploads:4}") int maxConcurrentUploads,
+                                   @Value("${inventory.images.upload-wait-ms:2000}") long waitMillis) {
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrentUploads, true);
+        this.waitMillis = waitMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null || !contentType.toLowerCase().startsWith("multipart/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            Response errorResponse = Response.builder()
+                    .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                    .message("Too many uploads in progress, please retry shortly")
+                    .build();
+
+            response.setContentType("application/json");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
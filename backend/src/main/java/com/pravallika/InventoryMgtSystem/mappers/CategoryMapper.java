@@ -0,0 +1,42 @@
+package com.pravallika.InventoryMgtSystem.mappers;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import com.pravallika.InventoryMgtSystem.dtos.CategoryDTO;
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+import com.pravallika.InventoryMgtSystem.models.Category;
+import com.pravallika.InventoryMgtSystem.models.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryMapper {
+
+    private final ProductMapper productMapper;
+
+    public CategoryDTO toDTO(Category category) {
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(category.getId());
+        dto.setName(category.getName());
+        return dto;
+    }
+
+    /**
+     * Category with its live products attached, in the shape the category listing has always returned.
+     */
+    public CategoryDTO toDTO(Category category, List<Product> products) {
+        CategoryDTO dto = toDTO(category);
+        List<ProductDTO> productDTOs = new ArrayList<>(products.size());
+        for (Product product : products) {
+            if (Boolean.TRUE.equals(product.getIsDeleted())) continue;
+            ProductDTO productDTO = productMapper.toDTO(product);
+            productDTO.setId(product.getId());
+            productDTOs.add(productDTO);
+        }
+        dto.setProducts(productDTOs);
+        return dto;
+    }
+}
@@ -0,0 +1,28 @@
+package com.pravallika.InventoryMgtSystem.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+import com.pravallika.InventoryMgtSystem.images.ProductImageStore;
+import com.pravallika.InventoryMgtSystem.models.Product;
+
+@Component
+public class ProductMapper {
+
+    public ProductDTO toDTO(Product product) {
+        ProductDTO dto = new ProductDTO();
+        dto.setProductId(product.getId());
+        dto.setName(product.getName());
+        dto.setSku(product.getSku());
+        dto.setPrice(product.getPrice());
+        dto.setStockQuantity(product.getStockQuantity());
+        dto.setReorderThreshold(product.getReorderThreshold());
+        dto.setDescription(product.getDescription());
+        dto.setImageUrl(product.getImageUrl());
+        dto.setImageVariants(ProductImageStore.variantUrls(product.getImageUrl()));
+        dto.setExpiryDate(product.getExpiryDate());
+        if (product.getCategory() != null) dto.setCategoryId(product.getCategory().getId());
+        dto.setCreatedAt(product.getCreatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,19 @@
+package com.pravallika.InventoryMgtSystem.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.pravallika.InventoryMgtSystem.dtos.SupplierDTO;
+import com.pravallika.InventoryMgtSystem.models.Supplier;
+
+@Component
+public class SupplierMapper {
+
+    public SupplierDTO toDTO(Supplier supplier) {
+        SupplierDTO dto = new SupplierDTO();
+        dto.setId(supplier.getId());
+        dto.setName(supplier.getName());
+        dto.setContactInfo(supplier.getContactInfo());
+        dto.setAddress(supplier.getAddress());
+        return dto;
+    }
+}
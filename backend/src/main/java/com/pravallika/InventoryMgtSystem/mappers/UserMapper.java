@@ -0,0 +1,25 @@
+package com.pravallika.InventoryMgtSystem.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.pravallika.InventoryMgtSystem.dtos.UserDTO;
+import com.pravallika.InventoryMgtSystem.models.User;
+
+/**
+ * Maps a single user; the listing is built by the UserRepository projection. The password hash and the lazy
+ * transactions collection are left out.
+ */
+@Component
+public class UserMapper {
+
+    public UserDTO toDTO(User user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setRole(user.getRole());
+        dto.setCreatedAt(user.getCreatedAt());
+        return dto;
+    }
+}
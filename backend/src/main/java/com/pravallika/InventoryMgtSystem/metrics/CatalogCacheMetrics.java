@@ -0,0 +1,33 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
+
+// Publishes the catalog cache statistics; they are read when the registry is scraped, not on each cache access
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheMetrics implements MeterBinder {
+
+    private final ProductCatalogCache productCatalogCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("inventory.products.cache.size", productCatalogCache, cache -> cache.stats().size())
+                .description("Products held in the catalog cache")
+                .register(registry);
+        FunctionCounter.builder("inventory.products.cache.requests", productCatalogCache, cache -> cache.stats().hits())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("inventory.products.cache.requests", productCatalogCache, cache -> cache.stats().misses())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("inventory.products.cache.evictions", productCatalogCache, cache -> cache.stats().evictions())
+                .register(registry);
+    }
+}
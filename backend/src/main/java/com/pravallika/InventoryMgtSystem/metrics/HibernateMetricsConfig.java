@@ -0,0 +1,16 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateMetricsConfig {
+
+    // hands Hibernate the Spring-managed inspector instead of letting it instantiate its own
+    @Bean
+    public HibernatePropertiesCustomizer statementCountCustomizer(StatementCountInspector statementCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountInspector);
+    }
+}
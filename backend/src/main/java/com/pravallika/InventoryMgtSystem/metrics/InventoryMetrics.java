@@ -0,0 +1,81 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Business counters and timers for the hot paths. Every meter is registered up front and held in a field, so
+ * recording is a plain increment with no tag lookup or allocation per call.
+ */
+@Component
+public class InventoryMetrics {
+
+    private final Counter purchases;
+    private final Counter sales;
+    private final Counter returns;
+    private final Counter adjustments;
+    private final Counter oversellRejections;
+    private final Timer jwtVerification;
+
+    public InventoryMetrics(MeterRegistry registry) {
+        this.purchases = transactionCounter(registry, "purchase");
+        this.sales = transactionCounter(registry, "sale");
+        this.returns = transactionCounter(registry, "return_to_supplier");
+        this.adjustments = transactionCounter(registry, "adjustment");
+        this.oversellRejections = Counter.builder("inventory.stock.oversell.rejections")
+                .description("Stock changes rejected because they would take stock below zero")
+                .register(registry);
+        this.jwtVerification = Timer.builder("inventory.auth.jwt.verification")
+                .description("Signature and expiry check of tokens missing from the verified-token cache")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // counted once the surrounding database transaction commits, so rolled-back writes are never counted
+    public void recordTransactions(TransactionType type, int count) {
+        if (count == 0) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementTransactions(type, count);
+                }
+            });
+        } else {
+            incrementTransactions(type, count);
+        }
+    }
+
+    private void incrementTransactions(TransactionType type, int count) {
+        switch (type) {
+            case PURCHASE -> purchases.increment(count);
+            case SALE -> sales.increment(count);
+            case RETURN_TO_SUPPLIER -> returns.increment(count);
+            case ADJUSTMENT -> adjustments.increment(count);
+        }
+    }
+
+    public void recordOversellRejection() {
+        oversellRejections.increment();
+    }
+
+    public void recordJwtVerification(long nanos) {
+        jwtVerification.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Counter transactionCounter(MeterRegistry registry, String type) {
+        return Counter.builder("inventory.transactions")
+                .description("Transactions recorded, by type")
+                .tag("type", type)
+                .register(registry);
+    }
+}
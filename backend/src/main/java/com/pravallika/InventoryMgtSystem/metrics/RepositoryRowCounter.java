@@ -0,0 +1,38 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Adds the rows each repository call returns to the current {@link RequestTiming}: the size of a list or page, one
+ * for a found entity or projection, and one per element a stream hands out. Counts and modifying queries add
+ * nothing. It sits on the Spring Data repository proxies (see {@link ServerTimingConfig}), so the JDBC objects are
+ * never wrapped, and outside a timed request it only passes the call on.
+ */
+class RepositoryRowCounter implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (RequestTiming.current() == null || result == null) return result;
+
+        if (result instanceof Stream<?> stream) {
+            return stream.peek(row -> RequestTiming.recordRows(1));
+        }
+        RequestTiming.recordRows(rowsIn(result));
+        return result;
+    }
+
+    private static long rowsIn(Object result) {
+        if (result instanceof Collection<?> rows) return rows.size();
+        if (result instanceof Slice<?> page) return page.getNumberOfElements();
+        if (result instanceof Optional<?> row) return row.isPresent() ? 1 : 0;
+        if (result instanceof Number || result instanceof Boolean) return 0;
+        return 1;
+    }
+}
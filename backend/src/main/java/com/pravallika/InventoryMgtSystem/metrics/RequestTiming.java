@@ -0,0 +1,115 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import java.util.Locale;
+
+/**
+ * Phase timings for the request being handled on the current thread. {@link ServerTimingFilter} opens one per
+ * request; the JWT check, user lookup, SQL execution ({@link SqlTimingListener}), mapping and JSON writing add
+ * their share to it, and the result is sent as a {@code Server-Timing} header. The statement count is the
+ * {@link StatementCountInspector}'s, read relative to where it stood when the timing was opened; rows fetched are
+ * the rows repository calls returned ({@link RepositoryRowCounter}). Outside a request
+ * (startup, background workers, streamed downloads) there is no current timing and recording is a no-op.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        AUTH("auth", "JWT verification"),
+        USER("user", "User lookup"),
+        DB("db", "SQL"),
+        MAPPING("map", "DTO mapping"),
+        SERIALIZATION("json", "JSON serialization");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final StatementCountInspector statementCounter;
+    private final int statementsBefore;
+    private long rows;
+    private boolean headerWritten;
+
+    private RequestTiming(StatementCountInspector statementCounter) {
+        this.statementCounter = statementCounter;
+        this.statementsBefore = statementCounter.current();
+    }
+
+    static RequestTiming open(StatementCountInspector statementCounter) {
+        RequestTiming timing = new RequestTiming(statementCounter);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void record(Phase phase, long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) timing.phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    public static void recordRows(long count) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) timing.rows += count;
+    }
+
+    int statements() {
+        return statementCounter.current() - statementsBefore;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    boolean isHeaderWritten() {
+        return headerWritten;
+    }
+
+    /**
+     * Renders the header value and marks it as sent, e.g.
+     * {@code auth;dur=0.41;desc="JWT verification", db;dur=12.80;desc="SQL, 3 statements, 1000 rows", total;dur=31.02}
+     */
+    String toHeaderValue() {
+        headerWritten = true;
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos == 0 && phase != Phase.DB) continue;
+
+            header.append(phase.metricName).append(";dur=").append(millis(nanos)).append(";desc=\"").append(phase.description);
+            if (phase == Phase.DB) header.append(", ").append(statements()).append(" statements, ").append(rows).append(" rows");
+            header.append("\", ");
+        }
+        return header.append("total;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    String summary() {
+        StringBuilder summary = new StringBuilder(120);
+        for (Phase phase : PHASES) {
+            summary.append(phase.metricName).append('=').append(millis(phaseNanos[phase.ordinal()])).append("ms ");
+        }
+        return summary.append("statements=").append(statements()).append(" rows=").append(rows).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+@ConditionalOnProperty(name = "inventory.timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    // replaces Boot's default Jackson converter, keeping its ObjectMapper
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimingJacksonConverter(objectMapper);
+    }
+
+    // Hibernate attaches a new listener to every session it opens
+    @Bean
+    public HibernatePropertiesCustomizer sqlTimingCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+    }
+
+    // counts the rows handed back by every Spring Data repository, before each repository proxy is created
+    @Bean
+    public static BeanPostProcessor repositoryRowCounterPostProcessor() {
+        RepositoryRowCounter rowCounter = new RepositoryRowCounter();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) -> proxyFactory.addAdvice(rowCounter)));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link RequestTiming} for each API request and sends it back as {@code Server-Timing}. JSON responses
+ * get the header from {@link TimingJacksonConverter} just before the body is written; anything else that has not
+ * been committed yet (304s, errors, empty bodies) gets it here. Requests slower than
+ * {@code inventory.timing.slow-request-ms} are logged with their breakdown, serialization included.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(name = "inventory.timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final StatementCountInspector statementCountInspector;
+    private final long slowRequestNanos;
+
+    public ServerTimingFilter(StatementCountInspector statementCountInspector,
+                              @Value("${inventory.timing.slow-request-ms:1000}") long slowRequestMillis) {
+        this.statementCountInspector = statementCountInspector;
+        this.slowRequestNanos = slowRequestMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowRequestMillis) : Long.MAX_VALUE;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestTiming timing = RequestTiming.open(statementCountInspector);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTiming.close();
+
+            if (!timing.isHeaderWritten() && !response.isCommitted()) {
+                response.addHeader(SERVER_TIMING, timing.toHeaderValue());
+            }
+            if (timing.elapsedNanos() >= slowRequestNanos) {
+                log.warn("Slow request {} {} -> {} in {}ms: {}", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), TimeUnit.NANOSECONDS.toMillis(timing.elapsedNanos()), timing.summary());
+            }
+        }
+    }
+}
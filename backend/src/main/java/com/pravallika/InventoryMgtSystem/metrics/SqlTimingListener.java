@@ -0,0 +1,33 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Adds the time Hibernate spends executing JDBC statements to the current {@link RequestTiming}. Hibernate creates
+ * one per session (see {@link ServerTimingConfig}); statements are counted by {@link StatementCountInspector}.
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTiming.record(RequestTiming.Phase.DB, System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTiming.record(RequestTiming.Phase.DB, System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each request ran, per route pattern. It wraps the security chain too, so token
+ * lookups count towards the request that caused them. Summaries are created once per route and reused.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private final StatementCountInspector statementCountInspector;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        statementCountInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            summaryFor(pattern != null ? pattern.toString() : "UNKNOWN").record(statementCountInspector.current());
+        }
+    }
+
+    private DistributionSummary summaryFor(String uri) {
+        DistributionSummary summary = summaries.get(uri);
+        if (summary != null) return summary;
+
+        return summaries.computeIfAbsent(uri, key -> DistributionSummary.builder("hibernate.statements.per.request")
+                .description("SQL statements prepared while handling one request")
+                .tag("uri", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
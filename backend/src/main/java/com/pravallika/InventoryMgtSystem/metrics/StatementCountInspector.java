@@ -0,0 +1,32 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so {@link StatementCountFilter} can report
+ * how many each request ran. It only counts; the SQL is passed through unchanged.
+ */
+@Component
+public class StatementCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Count> COUNT = ThreadLocal.withInitial(Count::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get().value++;
+        return sql;
+    }
+
+    void reset() {
+        COUNT.get().value = 0;
+    }
+
+    int current() {
+        return COUNT.get().value;
+    }
+
+    private static final class Count {
+        int value;
+    }
+}
@@ -0,0 +1,40 @@
+package com.pravallika.InventoryMgtSystem.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that, while a request is being timed, adds the {@code Server-Timing} header and then times
+ * serialization straight onto the response stream. The headers leave with the first bytes of the body, so the
+ * serialization phase reaches the slow-request log but not the header. Untimed writes go straight through.
+ */
+public class TimingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimingJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        outputMessage.getHeaders().add(ServerTimingFilter.SERVER_TIMING, timing.toHeaderValue());
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.SERIALIZATION, System.nanoTime() - start);
+        }
+    }
+}
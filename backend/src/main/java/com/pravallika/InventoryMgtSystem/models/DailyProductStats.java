@@ -0,0 +1,31 @@
+package com.pravallika.InventoryMgtSystem.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Running totals per (day, product, transaction type), incremented in the same DB transaction as each write
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "daily_product_stats")
+@Data
+@Builder
+public class DailyProductStats {
+
+    @EmbeddedId
+    private DailyProductStatsId id;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+
+    @Column(name = "total_products", nullable = false)
+    private Long totalProducts;
+
+    @Column(name = "total_price", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalPrice;
+}
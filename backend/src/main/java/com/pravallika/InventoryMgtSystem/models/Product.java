@@ -8,11 +8,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// stock moves through conditional UPDATEs; an update of other fields must not write back a stock value it read earlier
 @Entity
+@DynamicUpdate
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "products")
@@ -39,6 +42,10 @@ public class Product {
     @Min(value = 0, message = "stock quantity cannot be negative")
     private Integer stockQuantity;
 
+    // low-stock alert once stock is at or below this; null means the product is never reported
+    @Min(value = 0, message = "reorder threshold cannot be negative")
+    private Integer reorderThreshold;
+
     private String description;
     private LocalDateTime expiryDate;
     private String imageUrl;
@@ -61,6 +68,7 @@ public class Product {
                 ", sku='" + sku + '\'' +
                 ", price=" + price +
                 ", stockQuantity=" + stockQuantity +
+                ", reorderThreshold=" + reorderThreshold +
                 ", description='" + description + '\'' +
                 ", expiryDate=" + expiryDate +
                 ", imageUrl='" + imageUrl + '\'' +
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,21 +17,27 @@ import com.pravallika.InventoryMgtSystem.enums.TransactionType;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = @Index(name = "idx_transactions_created_at", columnList = "created_at"))
 @Data
 @Builder
 public class Transaction {
 
+    // pooled sequence (a table on MySQL, seeded past existing ids by TransactionSequenceMigration) instead of
+    // IDENTITY, so Hibernate can batch transaction inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     private Integer totalProducts;
 
     private BigDecimal totalPrice;
 
+    // plain VARCHAR rather than a MySQL ENUM, so new types need no column change (see EnumColumnMigration)
     @Enumerated(EnumType.STRING)
-    private TransactionType transactionType; // pruchase, sale, return
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
+    private TransactionType transactionType; // pruchase, sale, return, adjustment
 
     @Enumerated(EnumType.STRING)
     private TransactionStatus status; //pending, completed, processing
@@ -37,6 +45,7 @@ public class Transaction {
     private String description;
     private String note;
 
+    @Column(name = "created_at")
     private final LocalDateTime createdAt = LocalDateTime.now();
     private LocalDateTime updateAt;
 
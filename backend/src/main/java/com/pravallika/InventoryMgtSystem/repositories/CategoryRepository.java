@@ -1,11 +1,23 @@
 package com.pravallika.InventoryMgtSystem.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.pravallika.InventoryMgtSystem.dtos.CategoryDTO;
 import com.pravallika.InventoryMgtSystem.models.Category;
 
 import java.util.List;
+import java.util.Set;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
      List<Category> findByIsDeletedFalse();
+
+     // one grouped query: each live category with the number of its live products
+     @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.CategoryDTO(c.id, c.name, COUNT(p.id)) " +
+             "FROM Category c LEFT JOIN c.products p ON p.isDeleted = false " +
+             "WHERE c.isDeleted = false GROUP BY c.id, c.name")
+     List<CategoryDTO> findCategorySummaries();
+
+     @Query("SELECT c.id FROM Category c")
+     Set<Long> findAllIds();
 }
@@ -0,0 +1,61 @@
+package com.pravallika.InventoryMgtSystem.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pravallika.InventoryMgtSystem.dtos.ProductStatsDTO;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionSummaryDTO;
+import com.pravallika.InventoryMgtSystem.models.DailyProductStats;
+import com.pravallika.InventoryMgtSystem.models.DailyProductStatsId;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyProductStatsRepository extends JpaRepository<DailyProductStats, DailyProductStatsId> {
+
+    // upsert-increment: one statement whether or not the day's row exists yet
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO daily_product_stats " +
+            "(stat_date, product_id, transaction_type, transaction_count, total_products, total_price) " +
+            "VALUES (:statDate, :productId, :transactionType, :transactionCount, :totalProducts, :totalPrice) " +
+            "ON DUPLICATE KEY UPDATE transaction_count = transaction_count + VALUES(transaction_count), " +
+            "total_products = total_products + VALUES(total_products), total_price = total_price + VALUES(total_price)",
+            nativeQuery = true)
+    void increment(@Param("statDate") LocalDate statDate,
+                   @Param("productId") Long productId,
+                   @Param("transactionType") String transactionType,
+                   @Param("transactionCount") long transactionCount,
+                   @Param("totalProducts") long totalProducts,
+                   @Param("totalPrice") BigDecimal totalPrice);
+
+    // backfill: aggregate one id range of transactions into the staging table that is later swapped in
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO daily_product_stats_staging " +
+            "(stat_date, product_id, transaction_type, transaction_count, total_products, total_price) " +
+            "SELECT DATE(t.created_at), t.product_id, t.transaction_type, COUNT(*), " +
+            "COALESCE(SUM(t.total_products), 0), COALESCE(SUM(t.total_price), 0) " +
+            "FROM transactions t WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND t.product_id IS NOT NULL AND t.created_at IS NOT NULL AND t.transaction_type IS NOT NULL " +
+            "GROUP BY DATE(t.created_at), t.product_id, t.transaction_type " +
+            "ON DUPLICATE KEY UPDATE transaction_count = transaction_count + VALUES(transaction_count), " +
+            "total_products = total_products + VALUES(total_products), total_price = total_price + VALUES(total_price)",
+            nativeQuery = true)
+    int backfillRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.TransactionSummaryDTO(s.id.transactionType, " +
+            "SUM(s.transactionCount), SUM(s.totalProducts), SUM(s.totalPrice)) " +
+            "FROM DailyProductStats s WHERE s.id.statDate BETWEEN :from AND :to GROUP BY s.id.transactionType")
+    List<TransactionSummaryDTO> summarizeByType(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.ProductStatsDTO(s.id.productId, s.id.transactionType, " +
+            "SUM(s.transactionCount), SUM(s.totalProducts), SUM(s.totalPrice)) " +
+            "FROM DailyProductStats s WHERE s.id.statDate BETWEEN :from AND :to " +
+            "GROUP BY s.id.productId, s.id.transactionType ORDER BY s.id.productId")
+    List<ProductStatsDTO> summarizeByProduct(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
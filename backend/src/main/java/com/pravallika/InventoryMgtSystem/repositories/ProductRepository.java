@@ -1,16 +1,91 @@
 package com.pravallika.InventoryMgtSystem.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.pravallika.InventoryMgtSystem.alerts.StockLevel;
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
 import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.search.ProductSearchRow;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    List<Product> findByNameContainingOrDescriptionContaining(String name, String description);
+    // database fallback for search while the in-memory index is loading; skips soft-deleted products
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :input, '%')) " +
+            "OR LOWER(p.sku) LIKE LOWER(CONCAT('%', :input, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :input, '%')))")
+    Page<Product> searchLive(@Param("input") String input, Pageable pageable);
+
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.search.ProductSearchRow(p.id, p.name, p.sku, p.description) " +
+            "FROM Product p WHERE p.isDeleted = false")
+    List<ProductSearchRow> findSearchRows();
+
+    // the rows an import batch just wrote, to update the search index without reloading the catalog
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.search.ProductSearchRow(p.id, p.name, p.sku, p.description) " +
+            "FROM Product p WHERE p.sku IN :skus AND p.isDeleted = false")
+    List<ProductSearchRow> findSearchRowsBySkuIn(@Param("skus") Collection<String> skus);
 
     List<Product> findByIsDeletedFalse(); 
 
+    // images are content-addressed and may be shared, so a file is only removed once nothing refers to it
+    boolean existsByImageUrlAndIsDeletedFalse(String imageUrl);
+
     // Add this method to fetch products by category
+
+    // Stock is mutated with single conditional updates so concurrent writers never lose each other's changes.
+    // Both return the number of rows changed: 0 means the product is missing or (for decrement) has too little stock.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity " +
+            "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // row lock used by the coalescing stock writer while it folds queued deltas into one update
+    @Query(value = "SELECT stock_quantity FROM products WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Integer lockStockQuantity(@Param("id") Long id);
+
+    // streamed row by row for the CSV export; the category is fetched in the same query
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.ProductDTO(p.id, p.category.id, p.name, p.sku, p.price, " +
+            "p.stockQuantity, p.reorderThreshold, p.description, p.expiryDate, p.imageUrl, p.createdAt) " +
+            "FROM Product p WHERE p.isDeleted = false")
+    List<ProductDTO> findLiveListRows();
+
+    // stock levels for the low-stock engine: every product currently at or below its threshold, loaded at startup
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.alerts.StockLevel(p.id, p.name, p.sku, p.stockQuantity, " +
+            "p.reorderThreshold, p.isDeleted) FROM Product p WHERE p.isDeleted = false " +
+            "AND p.reorderThreshold IS NOT NULL AND COALESCE(p.stockQuantity, 0) <= p.reorderThreshold")
+    List<StockLevel> findLowStockLevels();
+
+    // ...and re-read by id (or SKU, after an import) whenever a write may have moved them across it
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.alerts.StockLevel(p.id, p.name, p.sku, p.stockQuantity, " +
+            "p.reorderThreshold, p.isDeleted) FROM Product p WHERE p.id IN :ids")
+    List<StockLevel> findStockLevelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.alerts.StockLevel(p.id, p.name, p.sku, p.stockQuantity, " +
+            "p.reorderThreshold, p.isDeleted) FROM Product p WHERE p.sku IN :skus")
+    List<StockLevel> findStockLevelsBySkuIn(@Param("skus") Collection<String> skus);
+
+    // live products of several categories in one query; the category is fetched in the same select
+    @Query("SELECT p FROM Product p JOIN FETCH p.category c WHERE c.id IN :categoryIds AND p.isDeleted = false ORDER BY p.id")
+    List<Product> findLiveByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.isDeleted = false ORDER BY p.id")
+    Stream<Product> streamLiveProducts();
 }
@@ -1,11 +1,17 @@
 package com.pravallika.InventoryMgtSystem.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.pravallika.InventoryMgtSystem.dtos.SupplierDTO;
 import com.pravallika.InventoryMgtSystem.models.Supplier;
 
 import java.util.List;
 
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
      List<Supplier> findByIsDeletedFalse();
+
+     @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.SupplierDTO(s.id, s.name, s.contactInfo, s.address) " +
+             "FROM Supplier s WHERE s.isDeleted = false")
+     List<SupplierDTO> findLiveListRows();
 }
@@ -0,0 +1,24 @@
+package com.pravallika.InventoryMgtSystem.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.pravallika.InventoryMgtSystem.dtos.TransactionDTO;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+
+import java.util.List;
+
+/**
+ * Transaction listings driven by a {@link Specification} but selecting straight into {@link TransactionDTO},
+ * so no managed entities (or their snapshots and association proxies) are created.
+ */
+public interface TransactionListQueries {
+
+    Page<TransactionDTO> findListRows(Specification<Transaction> spec, Pageable pageable);
+
+    List<TransactionDTO> findListRows(Specification<Transaction> spec, Sort sort);
+
+    List<TransactionDTO> findListRows(Specification<Transaction> spec, Sort sort, int limit);
+}
@@ -0,0 +1,76 @@
+package com.pravallika.InventoryMgtSystem.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.pravallika.InventoryMgtSystem.dtos.TransactionDTO;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+
+import java.util.List;
+
+class TransactionListQueriesImpl implements TransactionListQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TransactionDTO> findListRows(Specification<Transaction> spec, Pageable pageable) {
+        TypedQuery<TransactionDTO> query = listQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        //the count only runs when the page alone can't tell the total
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TransactionDTO> findListRows(Specification<Transaction> spec, Sort sort) {
+        return listQuery(spec, sort).getResultList();
+    }
+
+    @Override
+    public List<TransactionDTO> findListRows(Specification<Transaction> spec, Sort sort, int limit) {
+        return listQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<TransactionDTO> listQuery(Specification<Transaction> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionDTO> query = cb.createQuery(TransactionDTO.class);
+        Root<Transaction> root = query.from(Transaction.class);
+
+        query.select(cb.construct(TransactionDTO.class,
+                root.get("id"), root.get("totalProducts"), root.get("totalPrice"),
+                root.get("transactionType"), root.get("status"), root.get("description"),
+                root.get("note"), root.get("createdAt"), root.get("updateAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        if (sort.isSorted()) query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Transaction> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Transaction> root = query.from(Transaction.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.select(cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,9 +1,58 @@
 package com.pravallika.InventoryMgtSystem.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.pravallika.InventoryMgtSystem.dtos.TransactionCsvRow;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionDTO;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionSummaryDTO;
 import com.pravallika.InventoryMgtSystem.models.Transaction;
+import com.pravallika.InventoryMgtSystem.search.TransactionSearchRow;
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+        TransactionListQueries {
+
+    String SEARCH_ROW_SELECT = "SELECT new com.pravallika.InventoryMgtSystem.search.TransactionSearchRow(" +
+            "t.id, t.description, t.note, t.status, t.transactionType, u.name, u.email, u.phoneNumber, " +
+            "s.name, s.contactInfo, p.name, p.sku, p.description, c.name) " +
+            "FROM Transaction t LEFT JOIN t.user u LEFT JOIN t.supplier s LEFT JOIN t.product p LEFT JOIN p.category c ";
+
+    // used to split the search index rebuild into id ranges
+    @Query("SELECT MIN(t.id) FROM Transaction t")
+    Long findMinId();
+
+    @Query("SELECT MAX(t.id) FROM Transaction t")
+    Long findMaxId();
+
+    @Query(SEARCH_ROW_SELECT + "WHERE t.id BETWEEN :fromId AND :toId")
+    List<TransactionSearchRow> findSearchRowsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query(SEARCH_ROW_SELECT + "WHERE t.id IN :ids")
+    List<TransactionSearchRow> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.TransactionDTO(t.id, t.totalProducts, t.totalPrice, " +
+            "t.transactionType, t.status, t.description, t.note, t.createdAt, t.updateAt) FROM Transaction t WHERE t.id IN :ids")
+    List<TransactionDTO> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.TransactionSummaryDTO(" +
+            "t.transactionType, COUNT(t), SUM(t.totalProducts), SUM(t.totalPrice)) " +
+            "FROM Transaction t WHERE t.createdAt >= :start AND t.createdAt < :end GROUP BY t.transactionType")
+    List<TransactionSummaryDTO> summarizeByType(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.TransactionCsvRow(t.id, t.createdAt, t.transactionType, " +
+            "t.status, t.totalProducts, t.totalPrice, p.id, p.name, p.sku, s.name, t.description, t.note) " +
+            "FROM Transaction t LEFT JOIN t.product p LEFT JOIN t.supplier s " +
+            "WHERE t.createdAt >= :start AND t.createdAt < :end ORDER BY t.id")
+    Stream<TransactionCsvRow> streamCsvRows(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 }
@@ -1,12 +1,19 @@
 package com.pravallika.InventoryMgtSystem.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.pravallika.InventoryMgtSystem.dtos.UserDTO;
 import com.pravallika.InventoryMgtSystem.models.User;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT new com.pravallika.InventoryMgtSystem.dtos.UserDTO(u.id, u.name, u.email, u.phoneNumber, u.role, u.createdAt) " +
+            "FROM User u ORDER BY u.id DESC")
+    List<UserDTO> findListRows();
 }
@@ -0,0 +1,187 @@
+package com.pravallika.InventoryMgtSystem.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Ranked substring search over product name, SKU and description, backed by a {@link TrigramIndex}.
+ * Only live (non-deleted) products are indexed; ProductServiceImpl keeps the index in step with every save,
+ * update and delete once it commits, the CSV import refreshes the SKUs of each batch it commits, and the whole
+ * catalog is loaded once at startup.
+ * <p>
+ * A rebuild loads a new index off to the side while searches keep using the current one. Writes made during the
+ * load are applied to both and replayed onto the new index before it is swapped in, so nothing written while
+ * the snapshot was being read is lost or brought back.
+ */
+@Component
+@Slf4j
+public class ProductSearchIndex {
+
+    // higher ranks first: exact SKU, name prefix, name, SKU, description
+    private static final int SKU_EXACT = 5;
+    private static final int NAME_PREFIX = 4;
+    private static final int NAME = 3;
+    private static final int SKU = 2;
+    private static final int DESCRIPTION = 1;
+
+    private final ProductRepository productRepository;
+    private final Object writeLock = new Object();
+
+    private volatile TrigramIndex index = new TrigramIndex();
+    private volatile boolean ready;
+
+    // writes made while a rebuild is loading; null when no rebuild is running (guarded by writeLock)
+    private List<Consumer<TrigramIndex>> pendingWrites;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+
+        TrigramIndex rebuilt = new TrigramIndex();
+        try {
+            productRepository.findSearchRows().forEach(row -> put(rebuilt, row));
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            pendingWrites.forEach(write -> write.accept(rebuilt));
+            pendingWrites = null;
+            index = rebuilt;
+        }
+        ready = true;
+        log.info("Product search index built with {} products in {} ms", rebuilt.size(), System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(Product product) {
+        write(putting(product));
+    }
+
+    // indexes the product as it is now, once the surrounding database transaction has committed
+    public void putAfterCommit(Product product) {
+        writeAfterCommit(putting(product));
+    }
+
+    /**
+     * Re-reads the given SKUs and indexes them, for bulk writes that bypass {@link #put(Product)}.
+     */
+    public void refreshSkus(Collection<String> skus) {
+        if (skus.isEmpty()) return;
+        for (ProductSearchRow row : productRepository.findSearchRowsBySkuIn(skus)) {
+            write(target -> put(target, row));
+        }
+    }
+
+    public void remove(Long productId) {
+        write(removing(productId));
+    }
+
+    public void removeAfterCommit(Long productId) {
+        writeAfterCommit(removing(productId));
+    }
+
+    /**
+     * @return one page of matching product ids, best match first, plus the total number of matches
+     */
+    public SearchPage search(String query, int page, int size) {
+        String normalized = query.toLowerCase(Locale.ROOT);
+        TrigramIndex current = index;
+        int[] ids = current.search(normalized);
+
+        //pack rank and id into one long so a primitive sort orders by rank, then newest id
+        long[] ranked = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ranked[i] = ((long) rank(current.text(ids[i]), normalized) << 32) | ids[i];
+        }
+        Arrays.sort(ranked);
+
+        int from = (int) Math.min((long) page * size, ranked.length);
+        int to = Math.min(from + size, ranked.length);
+        long[] pageIds = new long[to - from];
+        for (int i = 0; i < pageIds.length; i++) {
+            pageIds[i] = ranked[ranked.length - 1 - from - i] & 0xFFFFFFFFL;
+        }
+        return new SearchPage(pageIds, ids.length);
+    }
+
+    private static Consumer<TrigramIndex> putting(Product product) {
+        if (Boolean.TRUE.equals(product.getIsDeleted())) return removing(product.getId());
+
+        ProductSearchRow row = new ProductSearchRow(product.getId(), product.getName(), product.getSku(), product.getDescription());
+        return target -> put(target, row);
+    }
+
+    private static Consumer<TrigramIndex> removing(Long productId) {
+        int id = Math.toIntExact(productId);
+        return target -> target.remove(id);
+    }
+
+    private void writeAfterCommit(Consumer<TrigramIndex> write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(write);
+                }
+            });
+        } else {
+            write(write);
+        }
+    }
+
+    private void write(Consumer<TrigramIndex> write) {
+        synchronized (writeLock) {
+            write.accept(index);
+            if (pendingWrites != null) pendingWrites.add(write);
+        }
+    }
+
+    private static void put(TrigramIndex target, ProductSearchRow row) {
+        target.put(Math.toIntExact(row.id()), row.searchText());
+    }
+
+    private static int rank(String text, String query) {
+        if (text == null) return 0;
+
+        String[] fields = text.split(ProductSearchRow.FIELD_SEPARATOR, -1);
+        String name = fields[0];
+        String sku = fields.length > 1 ? fields[1] : "";
+
+        if (sku.equals(query)) return SKU_EXACT;
+        if (name.startsWith(query)) return NAME_PREFIX;
+        if (name.contains(query)) return NAME;
+        if (sku.contains(query)) return SKU;
+        return DESCRIPTION;
+    }
+
+    public record SearchPage(long[] ids, long totalElements) {
+    }
+}
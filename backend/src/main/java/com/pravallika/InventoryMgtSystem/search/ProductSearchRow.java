@@ -0,0 +1,15 @@
+package com.pravallika.InventoryMgtSystem.search;
+
+import java.util.Objects;
+
+// Searchable product columns, loaded with one projection query when the index is rebuilt
+public record ProductSearchRow(Long id, String name, String sku, String description) {
+
+    static final String FIELD_SEPARATOR = "\u0001";
+
+    // name, sku and description in a fixed order so the index can tell which field matched
+    public String searchText() {
+        return Objects.toString(name, "") + FIELD_SEPARATOR + Objects.toString(sku, "") + FIELD_SEPARATOR
+                + Objects.toString(description, "");
+    }
+}
@@ -0,0 +1,151 @@
+package com.pravallika.InventoryMgtSystem.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.pravallika.InventoryMgtSystem.repositories.TransactionRepository;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Free-text search over transactions, backed by a {@link TrigramIndex} over the same fields
+ * {@code TransactionFilter.byFilter} matches. The index is rebuilt in parallel id-range chunks at startup and
+ * kept current by {@link #refreshAfterCommit(Collection)}, which the transaction service calls for every row it
+ * writes. Until the rebuild finishes {@link #isReady()} is false and callers fall back to the Specification.
+ * <p>
+ * Renaming a user, supplier, product or category is not pushed into existing entries; those changes are picked
+ * up on the next rebuild.
+ */
+@Component
+@Slf4j
+public class TransactionSearchIndex {
+
+    private static final int REFRESH_CHUNK = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final TrigramIndex index = new TrigramIndex();
+
+    private final boolean enabled;
+    private final int loaderThreads;
+    private final int chunkSize;
+
+    private final ExecutorService updater = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "transaction-index-updater");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean ready;
+
+    public TransactionSearchIndex(TransactionRepository transactionRepository,
+                                  @Value("${inventory.search.transactions.enabled:true}") boolean enabled,
+                                  @Value("${inventory.search.transactions.loader-threads:4}") int loaderThreads,
+                                  @Value("${inventory.search.transactions.chunk-size:10000}") int chunkSize) {
+        this.transactionRepository = transactionRepository;
+        this.enabled = enabled;
+        this.loaderThreads = loaderThreads;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) return;
+        updater.execute(this::rebuild);
+    }
+
+    @PreDestroy
+    void stop() {
+        updater.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return ids of matching transactions, newest first
+     */
+    public long[] search(String query) {
+        int[] ids = index.search(query);
+        long[] newestFirst = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            newestFirst[i] = ids[ids.length - 1 - i];
+        }
+        return newestFirst;
+    }
+
+    // re-reads the given transactions once the surrounding database transaction has committed
+    public void refreshAfterCommit(Collection<Long> ids) {
+        if (!enabled || ids.isEmpty()) return;
+
+        List<Long> snapshot = List.copyOf(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updater.execute(() -> refresh(snapshot));
+                }
+            });
+        } else {
+            updater.execute(() -> refresh(snapshot));
+        }
+    }
+
+    private void refresh(List<Long> ids) {
+        try {
+            for (int from = 0; from < ids.size(); from += REFRESH_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK, ids.size()));
+                transactionRepository.findSearchRowsByIdIn(chunk).forEach(this::put);
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh transaction search index: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        Long minId = transactionRepository.findMinId();
+        Long maxId = transactionRepository.findMaxId();
+
+        if (minId != null) {
+            ExecutorService loaders = Executors.newFixedThreadPool(loaderThreads);
+            try {
+                List<Future<?>> chunks = new ArrayList<>();
+                for (long from = minId; from <= maxId; from += chunkSize) {
+                    long fromId = from;
+                    long toId = Math.min(from + chunkSize - 1, maxId);
+                    chunks.add(loaders.submit(() ->
+                            transactionRepository.findSearchRowsBetween(fromId, toId).forEach(this::put)));
+                }
+                for (Future<?> chunk : chunks) {
+                    chunk.get();
+                }
+            } catch (Exception e) {
+                log.error("Transaction search index rebuild failed, falling back to database search: {}", e.getMessage());
+                return;
+            } finally {
+                loaders.shutdown();
+            }
+        }
+
+        ready = true;
+        log.info("Transaction search index built with {} transactions in {} ms",
+                index.size(), System.currentTimeMillis() - started);
+    }
+
+    private void put(TransactionSearchRow row) {
+        index.put(Math.toIntExact(row.id()), row.searchText());
+    }
+}
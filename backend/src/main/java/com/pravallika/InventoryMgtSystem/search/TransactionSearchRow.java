@@ -0,0 +1,34 @@
+package com.pravallika.InventoryMgtSystem.search;
+
+import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// The same columns TransactionFilter.byFilter matches with LIKE, loaded in one projection query
+public record TransactionSearchRow(Long id,
+                                   String description,
+                                   String note,
+                                   TransactionStatus status,
+                                   TransactionType transactionType,
+                                   String userName,
+                                   String userEmail,
+                                   String userPhoneNumber,
+                                   String supplierName,
+                                   String supplierContactInfo,
+                                   String productName,
+                                   String productSku,
+                                   String productDescription,
+                                   String categoryName) {
+
+    // fields are joined with a separator no query contains, so a match never spans two fields
+    public String searchText() {
+        return Stream.of(description, note, status, transactionType, userName, userEmail, userPhoneNumber,
+                        supplierName, supplierContactInfo, productName, productSku, productDescription, categoryName)
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .collect(Collectors.joining("\u0001"));
+    }
+}
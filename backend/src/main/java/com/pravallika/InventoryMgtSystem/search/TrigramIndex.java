@@ -0,0 +1,205 @@
+package com.pravallika.InventoryMgtSystem.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory substring index over int document ids. Each document is kept as lower-cased text and indexed by
+ * its character trigrams; every trigram maps to a sorted posting list backed by a plain int[].
+ * <p>
+ * A query is answered by intersecting the posting lists of its trigrams and confirming each candidate with
+ * {@link String#contains}, so results are exactly those a {@code LIKE '%query%'} would return. Queries shorter
+ * than three characters fall back to scanning the stored texts.
+ */
+public class TrigramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Integer, String> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(int id, String text) {
+        String normalized = text.toLowerCase(Locale.ROOT);
+
+        lock.writeLock().lock();
+        try {
+            String previous = documents.put(id, normalized);
+            if (previous != null) {
+                if (previous.equals(normalized)) return;
+                removePostings(id, previous);
+            }
+            for (long trigram : trigrams(normalized)) {
+                postings.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            String previous = documents.remove(id);
+            if (previous != null) removePostings(id, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // lower-cased text stored for the id, or null if it is not indexed
+    public String text(int id) {
+        lock.readLock().lock();
+        try {
+            return documents.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return ids of all documents containing the query (case-insensitive), in ascending order
+     */
+    public int[] search(String query) {
+        String normalized = query.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            if (normalized.length() < 3) return scan(normalized);
+
+            long[] trigrams = trigrams(normalized);
+            PostingList[] lists = new PostingList[trigrams.length];
+            for (int i = 0; i < trigrams.length; i++) {
+                lists[i] = postings.get(trigrams[i]);
+                if (lists[i] == null) return EMPTY;
+            }
+
+            //start from the rarest trigram so intermediate results stay small
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+            for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists[i]);
+            }
+
+            //trigrams can match out of order, so confirm the substring
+            int matches = 0;
+            for (int id : candidates) {
+                if (documents.get(id).contains(normalized)) candidates[matches++] = id;
+            }
+            return Arrays.copyOf(candidates, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] scan(String normalized) {
+        int[] matches = new int[16];
+        int count = 0;
+        for (Map.Entry<Integer, String> document : documents.entrySet()) {
+            if (document.getValue().contains(normalized)) {
+                if (count == matches.length) matches = Arrays.copyOf(matches, count * 2);
+                matches[count++] = document.getKey();
+            }
+        }
+        int[] result = Arrays.copyOf(matches, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void removePostings(int id, String text) {
+        for (long trigram : trigrams(text)) {
+            PostingList list = postings.get(trigram);
+            if (list == null) continue;
+            list.remove(id);
+            if (list.size == 0) postings.remove(trigram);
+        }
+    }
+
+    private static int[] intersect(int[] candidates, PostingList list) {
+        int[] result = new int[Math.min(candidates.length, list.size)];
+        int i = 0, j = 0, count = 0;
+        while (i < candidates.length && j < list.size) {
+            int a = candidates[i];
+            int b = list.ids[j];
+            if (a == b) {
+                result[count++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // distinct trigrams of the text, each packed as three UTF-16 chars in one long
+    private static long[] trigrams(String text) {
+        if (text.length() < 3) return new long[0];
+
+        long[] trigrams = new long[text.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(trigrams);
+
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) trigrams[distinct++] = trigrams[i];
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    // sorted set of ids in a growable int[]; appends of increasing ids (the common case) are O(1)
+    private static final class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int at = Arrays.binarySearch(ids, 0, size, id);
+                if (at >= 0) return;
+                insertAt(-at - 1, id);
+                return;
+            }
+            insertAt(size, id);
+        }
+
+        void remove(int id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) return;
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+        }
+
+        private void insertAt(int at, int id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.pravallika.InventoryMgtSystem.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,12 +9,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.pravallika.InventoryMgtSystem.exceptions.NotFoundException;
+import com.pravallika.InventoryMgtSystem.metrics.InventoryMetrics;
+import com.pravallika.InventoryMgtSystem.metrics.RequestTiming;
+
 import java.io.IOException;
 
 @Component
@@ -23,6 +27,8 @@ public class AuthFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final CustomUserDetailsService customUserDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final InventoryMetrics inventoryMetrics;
 
 
     @Override
@@ -32,14 +38,13 @@ public class AuthFilter extends OncePerRequestFilter {
         String token = getTokenFromRequest(request);
 
         if (token != null) {
-            String email = jwtUtils.getUsernameFromToken(token);
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+            AuthUser authUser = resolveUser(token);
 
-            if (StringUtils.hasText(email) && jwtUtils.isTokeValid(token, userDetails)) {
-                log.info("Valid Token, {}", email);
+            if (authUser != null) {
+                log.debug("Valid Token, {}", authUser.getUsername());
 
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
+                        authUser, null, authUser.getAuthorities()
                 );
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
@@ -54,6 +59,34 @@ public class AuthFilter extends OncePerRequestFilter {
 
     }
 
+    private AuthUser resolveUser(String token) {
+        AuthUser cached = verifiedTokenCache.get(token);
+        if (cached != null) return cached;
+
+        //parse and verify the token once
+        long start = System.nanoTime();
+        Claims claims = jwtUtils.parseToken(token);
+        long verifyNanos = System.nanoTime() - start;
+        inventoryMetrics.recordJwtVerification(verifyNanos);
+        RequestTiming.record(RequestTiming.Phase.AUTH, verifyNanos);
+        if (claims == null || !StringUtils.hasText(claims.getSubject())) return null;
+
+        //tokens live for months, so a cache miss always checks that the user still exists and takes the current role
+        //from the database rather than the claims; only tokens verified this way are served from the cache
+        AuthUser authUser;
+        long lookupStart = System.nanoTime();
+        try {
+            authUser = (AuthUser) customUserDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (NotFoundException e) {
+            return null;
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.USER, System.nanoTime() - lookupStart);
+        }
+
+        verifiedTokenCache.put(token, authUser, claims.getExpiration());
+        return authUser;
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
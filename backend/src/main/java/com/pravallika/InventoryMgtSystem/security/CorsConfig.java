@@ -17,6 +17,7 @@ public class CorsConfig {
                         .allowedOrigins("http://localhost:3000", "http://localhost:3001") // allow both frontends
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders("ETag", "Server-Timing") // ETag goes back as If-None-Match; Server-Timing shows in devtools
                         .allowCredentials(true);
             }
         };
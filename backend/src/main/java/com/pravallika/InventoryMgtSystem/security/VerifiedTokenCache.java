@@ -0,0 +1,83 @@
+package com.pravallika.InventoryMgtSystem.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of already verified tokens, keyed by a SHA-256 digest of the token so raw tokens are never
+ * kept in memory. Entries live for at most the configured TTL and never past the token's own expiry.
+ * <p>
+ * Only tokens whose user was loaded from the database are cached, so the cache is the one path that skips the
+ * lookup. {@link #invalidateUser(String)} drops a changed or deleted user's entries on this instance; other
+ * instances pick the change up once their entries reach the TTL.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final Map<String, Entry> entries;
+
+    public VerifiedTokenCache(@Value("${inventory.auth.token-cache.max-entries:10000}") int maxEntries,
+                              @Value("${inventory.auth.token-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    public AuthUser get(String token) {
+        String key = digest(token);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.authUser();
+        }
+    }
+
+    public void put(String token, AuthUser authUser, Date tokenExpiration) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        if (tokenExpiration != null) expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(authUser, expiresAt));
+        }
+    }
+
+    public void invalidateUser(String email) {
+        if (email == null) return;
+        synchronized (entries) {
+            entries.values().removeIf(entry -> email.equals(entry.authUser().getUsername()));
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(AuthUser authUser, long expiresAt) {
+    }
+}
@@ -9,6 +9,8 @@ public interface CategoryService {
 
     Response getAllCategories();
 
+    Response getCategorySummaries();
+
     Response getCategoryById(Long id);
 
     Response updateCategory(Long id, CategoryDTO categoryDTO);
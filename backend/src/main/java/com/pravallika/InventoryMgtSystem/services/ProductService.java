@@ -3,7 +3,10 @@ package com.pravallika.InventoryMgtSystem.services;
 import org.springframework.web.multipart.MultipartFile;
 import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
-import java.util.List;
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 
 public interface ProductService {
 
@@ -15,12 +18,20 @@ public interface ProductService {
 
     Response getProductById(Long id);
 
+    // products at or below their reorder threshold, from the in-memory alert engine
+    Response getLowStockProducts();
+
     Response deleteProduct(Long id);
 
-    Response searchProduct(String input);
+    Response searchProduct(String input, int page, int size);
 
     Response reduceStock(Long productId, Integer quantity);
 
-    // For CSV export
-    List<ProductDTO> getAllProductsDTO();
+    ProductCatalogCache.Stats getCatalogCacheStats();
+
+    // For CSV export: streams every live product to the writer without materializing the catalog
+    void writeProductsCsv(Writer writer) throws IOException;
+
+    // Bulk upsert by SKU from a CSV in the export's layout, read as a stream; returns a per-row error report
+    Response importProductsCsv(Reader reader) throws IOException;
 }
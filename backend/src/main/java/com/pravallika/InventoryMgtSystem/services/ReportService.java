@@ -0,0 +1,14 @@
+package com.pravallika.InventoryMgtSystem.services;
+
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+
+import java.time.LocalDate;
+
+public interface ReportService {
+
+    Response getSummary(LocalDate from, LocalDate to);
+
+    Response getProductStats(LocalDate from, LocalDate to);
+
+    Response backfillDailyStats();
+}
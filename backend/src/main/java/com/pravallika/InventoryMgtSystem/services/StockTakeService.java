@@ -0,0 +1,12 @@
+package com.pravallika.InventoryMgtSystem.services;
+
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.dtos.StockCountLine;
+
+import java.util.List;
+
+public interface StockTakeService {
+
+    // Sets each counted product's stock to the counted quantity and records an ADJUSTMENT per changed line
+    Response applyStockTake(List<StockCountLine> countSheet);
+}
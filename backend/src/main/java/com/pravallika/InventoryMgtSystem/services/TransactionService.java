@@ -4,6 +4,11 @@ import com.pravallika.InventoryMgtSystem.dtos.Response;
 import com.pravallika.InventoryMgtSystem.dtos.TransactionRequest;
 import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.List;
+
 public interface TransactionService {
     Response purchase(TransactionRequest transactionRequest);
 
@@ -11,11 +16,19 @@ public interface TransactionService {
 
     Response returnToSupplier(TransactionRequest transactionRequest);
 
+    Response processBatch(List<TransactionRequest> transactionRequests);
+
     Response getAllTransactions(int page, int size, String filter);
 
+    Response getTransactionsAfter(String after, int limit, String filter, boolean includeTotal);
+
     Response getAllTransactionById(Long id);
 
     Response getAllTransactionByMonthAndYear(int month, int year);
 
+    Response getMonthlySummary(int month, int year);
+
+    void writeTransactionsCsv(LocalDate from, LocalDate to, Writer writer) throws IOException;
+
     Response updateTransactionStatus(Long transactionId, TransactionStatus status);
 }
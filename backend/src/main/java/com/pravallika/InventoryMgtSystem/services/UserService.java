@@ -15,6 +15,9 @@ public interface UserService {
 
     User getCurrentLoggedInUser();
 
+    // Current user as a lazy reference for write paths: taken from the authenticated principal, no SELECT
+    User getCurrentUserReference();
+
     Response getUserById(Long id);
 
     Response updateUser(Long id, UserDTO userDTO);
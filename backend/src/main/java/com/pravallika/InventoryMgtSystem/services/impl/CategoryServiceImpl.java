@@ -8,15 +8,20 @@ import org.modelmapper.TypeToken;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.pravallika.InventoryMgtSystem.cache.CatalogVersions;
 import com.pravallika.InventoryMgtSystem.dtos.CategoryDTO;
-import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
 import com.pravallika.InventoryMgtSystem.exceptions.NotFoundException;
+import com.pravallika.InventoryMgtSystem.mappers.CategoryMapper;
 import com.pravallika.InventoryMgtSystem.models.Category;
+import com.pravallika.InventoryMgtSystem.models.Product;
 import com.pravallika.InventoryMgtSystem.repositories.CategoryRepository;
+import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
 import com.pravallika.InventoryMgtSystem.services.CategoryService;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +29,10 @@ import java.util.List;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
     private final ModelMapper modelMapper;
+    private final CategoryMapper categoryMapper;
+    private final CatalogVersions catalogVersions;
 
 
     @Override
@@ -33,6 +41,7 @@ public class CategoryServiceImpl implements CategoryService {
         Category categoryToSave = modelMapper.map(categoryDTO, Category.class);
 
         categoryRepository.save(categoryToSave);
+        catalogVersions.bumpAfterCommit(CatalogVersions.Table.CATEGORIES);
 
         return Response.builder()
                 .status(200)
@@ -56,22 +65,20 @@ public class CategoryServiceImpl implements CategoryService {
         //         .categories(categoryDTOList)
         //         .build();
 
-              // Step 1: Fetch only non-deleted categories (null-safe)
+    // Step 1: Fetch only non-deleted categories (null-safe)
     List<Category> categoryList = categoryRepository.findByIsDeletedFalse();
 
-    // Step 2: Map categories to DTOs
-    List<CategoryDTO> categoryDTOList = categoryList.stream().map(category -> {
-        CategoryDTO dto = modelMapper.map(category, CategoryDTO.class);
+    // Step 2: Load the non-deleted products of all those categories in one query, grouped by category
+    Map<Long, List<Product>> productsByCategory = categoryList.isEmpty()
+            ? Map.of()
+            : productRepository.findLiveByCategoryIds(categoryList.stream().map(Category::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(p -> p.getCategory().getId()));
 
-        // Step 3: Map only non-deleted products (null-safe)
-        List<ProductDTO> productDTOs = category.getProducts().stream()
-                .filter(p -> p.getIsDeleted() == null || !p.getIsDeleted()) // null-safe check
-                .map(p -> modelMapper.map(p, ProductDTO.class))
-                .toList();
-
-        dto.setProducts(productDTOs); // attach products to category DTO
-        return dto;
-    }).toList();
+    // Step 3: Map categories to DTOs with their products attached
+    List<CategoryDTO> categoryDTOList = categoryList.stream()
+            .map(category -> categoryMapper.toDTO(category, productsByCategory.getOrDefault(category.getId(), List.of())))
+            .toList();
 
     // Step 4: Return response
     return Response.builder()
@@ -83,6 +90,17 @@ public class CategoryServiceImpl implements CategoryService {
 
     }
 
+    @Override
+    public Response getCategorySummaries() {
+        List<CategoryDTO> summaries = categoryRepository.findCategorySummaries();
+
+        return Response.builder()
+                .status(200)
+                .message("success")
+                .categories(summaries)
+                .build();
+    }
+
     @Override
     public Response getCategoryById(Long id) {
 
@@ -107,6 +125,7 @@ public class CategoryServiceImpl implements CategoryService {
         existingCategory.setName(categoryDTO.getName());
 
         categoryRepository.save(existingCategory);
+        catalogVersions.bumpAfterCommit(CatalogVersions.Table.CATEGORIES);
 
         return Response.builder()
                 .status(200)
@@ -135,6 +154,7 @@ public class CategoryServiceImpl implements CategoryService {
     category.setIsDeleted(true); // soft delete
 
     categoryRepository.save(category);
+    catalogVersions.bumpAfterCommit(CatalogVersions.Table.CATEGORIES);
 
     return Response.builder()
             .status(200)
@@ -0,0 +1,52 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import com.pravallika.InventoryMgtSystem.models.DailyProductStats;
+import com.pravallika.InventoryMgtSystem.models.DailyProductStatsId;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+import com.pravallika.InventoryMgtSystem.repositories.DailyProductStatsRepository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Keeps daily_product_stats in step with transaction writes; call it inside the transaction that saves the rows
+@Component
+@RequiredArgsConstructor
+public class DailyProductStatsRecorder {
+
+    private final DailyProductStatsRepository dailyProductStatsRepository;
+
+    public void record(Collection<Transaction> transactions) {
+        //fold the rows into one upsert per (day, product, type)
+        Map<DailyProductStatsId, DailyProductStats> totals = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            DailyProductStatsId id = new DailyProductStatsId(transaction.getCreatedAt().toLocalDate(),
+                    transaction.getProduct().getId(), transaction.getTransactionType());
+
+            DailyProductStats stats = totals.computeIfAbsent(id, key -> DailyProductStats.builder()
+                    .id(key)
+                    .transactionCount(0L)
+                    .totalProducts(0L)
+                    .totalPrice(BigDecimal.ZERO)
+                    .build());
+
+            stats.setTransactionCount(stats.getTransactionCount() + 1);
+            if (transaction.getTotalProducts() != null)
+                stats.setTotalProducts(stats.getTotalProducts() + transaction.getTotalProducts());
+            if (transaction.getTotalPrice() != null)
+                stats.setTotalPrice(stats.getTotalPrice().add(transaction.getTotalPrice()));
+        }
+
+        totals.values().forEach(stats -> dailyProductStatsRepository.increment(
+                stats.getId().getStatDate(),
+                stats.getId().getProductId(),
+                stats.getId().getTransactionType().name(),
+                stats.getTransactionCount(),
+                stats.getTotalProducts(),
+                stats.getTotalPrice()));
+    }
+}
@@ -0,0 +1,282 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pravallika.InventoryMgtSystem.alerts.LowStockAlertEngine;
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
+import com.pravallika.InventoryMgtSystem.dtos.ProductImportReport;
+import com.pravallika.InventoryMgtSystem.repositories.CategoryRepository;
+import com.pravallika.InventoryMgtSystem.search.ProductSearchIndex;
+import com.pravallika.InventoryMgtSystem.utils.CsvReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk product import from a CSV in the layout of the product export (Product ID, Name, SKU, Price, Stock Quantity,
+ * Category, Description, Expiry Date). Products are matched on SKU: new ones are inserted, existing ones (including
+ * soft-deleted) are updated and revived; the Product ID column is ignored. Stock Quantity is only the opening stock
+ * of new products: existing stock moves through transactions and stock-takes, which keep the ledger and the daily
+ * stats, so the import leaves it alone.
+ * <p>
+ * The file is read one batch at a time. Each batch is validated in parallel slices while the previous batch is
+ * being written, and valid rows are upserted in one batched statement per batch, each in its own transaction, so
+ * memory stays at about two batches however long the file is. A failed batch is reported against its rows and the
+ * import carries on.
+ */
+@Slf4j
+@Component
+public class ProductCsvImporter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO products (name, sku, price, stock_quantity, category_id, description, expiry_date, created_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, false) " +
+            "ON DUPLICATE KEY UPDATE name = VALUES(name), price = VALUES(price), " +
+            "category_id = VALUES(category_id), description = VALUES(description), expiry_date = VALUES(expiry_date), " +
+            "is_deleted = false";
+
+    private static final int COLUMNS = 8;
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final LowStockAlertEngine lowStockAlertEngine;
+    private final ProductSearchIndex productSearchIndex;
+    private final int batchSize;
+    private final int validationThreads;
+    private final int maxReportedErrors;
+    private final ExecutorService validators;
+
+    public ProductCsvImporter(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              CategoryRepository categoryRepository,
+                              ProductCatalogCache productCatalogCache,
+                              LowStockAlertEngine lowStockAlertEngine,
+                              ProductSearchIndex productSearchIndex,
+                              @Value("${inventory.products.import.batch-size:1000}") int batchSize,
+                              @Value("${inventory.products.import.validation-threads:4}") int validationThreads,
+                              @Value("${inventory.products.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.categoryRepository = categoryRepository;
+        this.productCatalogCache = productCatalogCache;
+        this.lowStockAlertEngine = lowStockAlertEngine;
+        this.productSearchIndex = productSearchIndex;
+        this.batchSize = batchSize;
+        this.validationThreads = validationThreads;
+        this.maxReportedErrors = maxReportedErrors;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.validators = Executors.newFixedThreadPool(validationThreads, runnable -> {
+            Thread thread = new Thread(runnable, "product-import-validator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        validators.shutdownNow();
+    }
+
+    public ProductImportReport importCsv(Reader reader) throws IOException {
+        long started = System.currentTimeMillis();
+        ProductImportReport report = new ProductImportReport();
+        Set<Long> categoryIds = categoryRepository.findAllIds();
+
+        CsvReader csv = new CsvReader(reader);
+        List<RawRow> rows = readBatch(csv, true);
+        CompletableFuture<List<ValidatedRow>> pending = null;
+
+        while (!rows.isEmpty()) {
+            report.setTotalRows(report.getTotalRows() + rows.size());
+            CompletableFuture<List<ValidatedRow>> validating = validate(rows, categoryIds);
+
+            //write the previous batch while this one is validated, and read the next meanwhile
+            if (pending != null) write(join(pending), report);
+            pending = validating;
+            rows = readBatch(csv, false);
+        }
+        if (pending != null) write(join(pending), report);
+
+        report.setElapsedMillis(System.currentTimeMillis() - started);
+        report.setRowsPerSecond(report.getTotalRows() * 1000 / Math.max(report.getElapsedMillis(), 1));
+        log.info("Imported {} of {} product rows ({} errors) in {} ms, {} rows/s", report.getImportedRows(),
+                report.getTotalRows(), report.getErrorCount(), report.getElapsedMillis(), report.getRowsPerSecond());
+        return report;
+    }
+
+    private List<RawRow> readBatch(CsvReader csv, boolean first) throws IOException {
+        List<RawRow> rows = new ArrayList<>(batchSize);
+        List<String> fields;
+        while (rows.size() < batchSize && (fields = csv.readRow()) != null) {
+            if (first && !fields.isEmpty() && fields.get(0).trim().equalsIgnoreCase("Product ID")) {
+                first = false;
+                continue;
+            }
+            first = false;
+            if (fields.size() == 1 && fields.get(0).isBlank()) continue;
+            rows.add(new RawRow(csv.getRowLine(), fields));
+        }
+        return rows;
+    }
+
+    private CompletableFuture<List<ValidatedRow>> validate(List<RawRow> rows, Set<Long> categoryIds) {
+        int sliceSize = Math.max(1, (rows.size() + validationThreads - 1) / validationThreads);
+        List<CompletableFuture<List<ValidatedRow>>> slices = new ArrayList<>();
+
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            List<RawRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+            slices.add(CompletableFuture.supplyAsync(() -> {
+                List<ValidatedRow> validated = new ArrayList<>(slice.size());
+                for (RawRow row : slice) {
+                    validated.add(validate(row, categoryIds));
+                }
+                return validated;
+            }, validators));
+        }
+
+        return CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            List<ValidatedRow> all = new ArrayList<>(rows.size());
+            slices.forEach(slice -> all.addAll(slice.join()));
+            return all;
+        });
+    }
+
+    private static ValidatedRow validate(RawRow row, Set<Long> categoryIds) {
+        List<String> fields = row.fields();
+        String sku = fields.size() > 2 ? fields.get(2).trim() : null;
+        if (fields.size() != COLUMNS) {
+            return ValidatedRow.invalid(row.line(), sku, "Expected " + COLUMNS + " columns but found " + fields.size());
+        }
+
+        String name = fields.get(1).trim();
+        if (name.isEmpty()) return ValidatedRow.invalid(row.line(), sku, "Name is required");
+        if (name.length() > MAX_TEXT_LENGTH) return ValidatedRow.invalid(row.line(), sku, "Name is too long");
+        if (sku.isEmpty()) return ValidatedRow.invalid(row.line(), sku, "SKU is required");
+        if (sku.length() > MAX_TEXT_LENGTH) return ValidatedRow.invalid(row.line(), sku, "SKU is too long");
+
+        BigDecimal price;
+        try {
+            price = new BigDecimal(fields.get(3).trim());
+        } catch (NumberFormatException e) {
+            return ValidatedRow.invalid(row.line(), sku, "Price is not a number");
+        }
+        if (price.signum() <= 0) return ValidatedRow.invalid(row.line(), sku, "product price must be a positive value");
+
+        int stockQuantity;
+        try {
+            stockQuantity = Integer.parseInt(fields.get(4).trim());
+        } catch (NumberFormatException e) {
+            return ValidatedRow.invalid(row.line(), sku, "Stock Quantity is not a whole number");
+        }
+        if (stockQuantity < 0) return ValidatedRow.invalid(row.line(), sku, "stock quantity cannot be negative");
+
+        Long categoryId = null;
+        String category = fields.get(5).trim();
+        if (!category.isEmpty()) {
+            try {
+                categoryId = Long.parseLong(category);
+            } catch (NumberFormatException e) {
+                return ValidatedRow.invalid(row.line(), sku, "Category is not an id");
+            }
+            if (!categoryIds.contains(categoryId)) return ValidatedRow.invalid(row.line(), sku, "Category Not Found");
+        }
+
+        String description = fields.get(6).trim();
+        if (description.length() > MAX_TEXT_LENGTH) return ValidatedRow.invalid(row.line(), sku, "Description is too long");
+
+        LocalDateTime expiryDate = null;
+        String expiry = fields.get(7).trim();
+        if (!expiry.isEmpty()) {
+            try {
+                expiryDate = expiry.length() == 10 ? LocalDate.parse(expiry).atStartOfDay() : LocalDateTime.parse(expiry);
+            } catch (DateTimeParseException e) {
+                return ValidatedRow.invalid(row.line(), sku, "Expiry Date must look like 2025-12-31 or 2025-12-31T00:00");
+            }
+        }
+
+        return new ValidatedRow(row.line(), sku, null, new Object[]{
+                name, sku, price, stockQuantity, categoryId, description.isEmpty() ? null : description,
+                expiryDate != null ? Timestamp.valueOf(expiryDate) : null, Timestamp.valueOf(LocalDateTime.now())
+        });
+    }
+
+    private void write(List<ValidatedRow> rows, ProductImportReport report) {
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        List<ValidatedRow> batchRows = new ArrayList<>(rows.size());
+        for (ValidatedRow row : rows) {
+            if (row.error() != null) {
+                addError(report, row.line(), row.sku(), row.error());
+            } else {
+                batch.add(row.values());
+                batchRows.add(row);
+            }
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, batch));
+            report.setImportedRows(report.getImportedRows() + batch.size());
+            List<String> skus = batchRows.stream().map(ValidatedRow::sku).toList();
+            lowStockAlertEngine.refreshSkusAfterCommit(skus);
+            productSearchIndex.refreshSkus(skus);
+        } catch (DataAccessException e) {
+            String message = "Batch rejected by the database: " + e.getMostSpecificCause().getMessage();
+            batchRows.forEach(row -> addError(report, row.line(), row.sku(), message));
+            log.warn("Product import batch starting on line {} failed", batchRows.get(0).line(), e);
+        }
+        // readers see each committed batch rather than waiting for the whole file
+        productCatalogCache.invalidateAll();
+    }
+
+    private void addError(ProductImportReport report, long line, String sku, String message) {
+        report.setErrorCount(report.getErrorCount() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new ProductImportReport.RowError(line, sku, message));
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Product import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Product import validation failed: " + e.getCause().getMessage(), e);
+        }
+    }
+
+    private record RawRow(long line, List<String> fields) {
+    }
+
+    private record ValidatedRow(long line, String sku, String error, Object[] values) {
+
+        static ValidatedRow invalid(long line, String sku, String error) {
+            return new ValidatedRow(line, sku, error, null);
+        }
+    }
+}
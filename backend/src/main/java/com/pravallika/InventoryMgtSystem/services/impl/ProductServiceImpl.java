@@ -1,31 +1,72 @@
 package com.pravallika.InventoryMgtSystem.services.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.pravallika.InventoryMgtSystem.alerts.LowStockAlertEngine;
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
 import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+import com.pravallika.InventoryMgtSystem.dtos.ProductImportReport;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.exceptions.InvalidImageException;
+import com.pravallika.InventoryMgtSystem.exceptions.NameValueRequiredException;
+import com.pravallika.InventoryMgtSystem.images.ProductImageStore;
+import com.pravallika.InventoryMgtSystem.mappers.ProductMapper;
 import com.pravallika.InventoryMgtSystem.models.Product;
 import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
+import com.pravallika.InventoryMgtSystem.search.ProductSearchIndex;
 import com.pravallika.InventoryMgtSystem.services.ProductService;
+import com.pravallika.InventoryMgtSystem.utils.CsvWriter;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ProductServiceImpl implements ProductService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 200;
+
     @Autowired
     private ProductRepository productRepository;
 
-    // Save images in backend
-    private static final String IMAGE_DIRECTORY = new File("backend/product-images").getAbsolutePath();
-    private static final String IMAGE_BASE_URL = "http://localhost:5050/images/";
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private ProductImageStore productImageStore;
+
+    @Autowired
+    private ProductCsvImporter productCsvImporter;
+
+    @Autowired
+    private LowStockAlertEngine lowStockAlertEngine;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     // ------------------- SAVE PRODUCT -------------------
     @Override
@@ -36,6 +77,7 @@ public class ProductServiceImpl implements ProductService {
             product.setSku(productDTO.getSku());
             product.setPrice(productDTO.getPrice() != null ? productDTO.getPrice() : BigDecimal.ZERO);
             product.setStockQuantity(productDTO.getStockQuantity() != null ? productDTO.getStockQuantity() : 0);
+            product.setReorderThreshold(productDTO.getReorderThreshold());
             product.setDescription(productDTO.getDescription());
 
             if (imageFile != null && !imageFile.isEmpty()) {
@@ -43,12 +85,20 @@ public class ProductServiceImpl implements ProductService {
             }
 
             Product savedProduct = productRepository.save(product);
+            productSearchIndex.putAfterCommit(savedProduct);
+            productCatalogCache.invalidateAfterCommit(List.of(savedProduct.getId()));
+            lowStockAlertEngine.refreshAfterCommit(List.of(savedProduct.getId()));
             return Response.builder()
                     .status(200)
                     .message("Product saved successfully")
-                    .product(toDTO(savedProduct))
+                    .product(productMapper.toDTO(savedProduct))
                     .build();
 
+        } catch (InvalidImageException e) {
+            return Response.builder()
+                    .status(400)
+                    .message(e.getMessage())
+                    .build();
         } catch (Exception e) {
             return Response.builder()
                     .status(500)
@@ -58,7 +108,9 @@ public class ProductServiceImpl implements ProductService {
     }
 
     // ------------------- UPDATE PRODUCT -------------------
+    // one transaction keeps the product managed, so only the columns changed here are written (see Product)
     @Override
+    @Transactional
     public Response updateProduct(ProductDTO productDTO, MultipartFile imageFile) {
         Optional<Product> productOpt = productRepository.findById(productDTO.getProductId());
         if (productOpt.isEmpty()) {
@@ -73,19 +125,26 @@ public class ProductServiceImpl implements ProductService {
         if (productDTO.getSku() != null) product.setSku(productDTO.getSku());
         if (productDTO.getPrice() != null) product.setPrice(productDTO.getPrice());
         if (productDTO.getStockQuantity() != null) product.setStockQuantity(productDTO.getStockQuantity());
+        if (productDTO.getReorderThreshold() != null) product.setReorderThreshold(productDTO.getReorderThreshold());
         if (productDTO.getDescription() != null) product.setDescription(productDTO.getDescription());
 
         // Handle image update
+        String previousImageUrl = product.getImageUrl();
         if (imageFile != null && !imageFile.isEmpty()) {
-            deleteImageFile(product.getImageUrl());  // delete old image
             product.setImageUrl(saveImage(imageFile)); // save new image
         }
 
         Product updated = productRepository.save(product);
+        if (!Objects.equals(previousImageUrl, updated.getImageUrl())) {
+            releaseImage(previousImageUrl); // delete old image unless another product shares it
+        }
+        productSearchIndex.putAfterCommit(updated);
+        productCatalogCache.invalidateAfterCommit(List.of(updated.getId()));
+        lowStockAlertEngine.refreshAfterCommit(List.of(updated.getId()));
         return Response.builder()
                 .status(200)
                 .message("Product updated successfully")
-                .product(toDTO(updated))
+                .product(productMapper.toDTO(updated))
                 .build();
     }
 
@@ -103,11 +162,16 @@ public class ProductServiceImpl implements ProductService {
         Product product = productOpt.get();
         product.setIsDeleted(true); // soft delete
 
-        // Delete image file
-        deleteImageFile(product.getImageUrl());
+        String imageUrl = product.getImageUrl();
         product.setImageUrl(null);
 
         productRepository.save(product);
+
+        // Delete image file unless another product shares it
+        releaseImage(imageUrl);
+        productSearchIndex.removeAfterCommit(id);
+        productCatalogCache.invalidateAfterCommit(List.of(id));
+        lowStockAlertEngine.refreshAfterCommit(List.of(id));
         return Response.builder()
                 .status(200)
                 .message("Product deleted successfully")
@@ -115,12 +179,14 @@ public class ProductServiceImpl implements ProductService {
     }
 
     // ------------------- GET ALL PRODUCTS -------------------
+    // served from the catalog cache; a miss runs the read-only projection query
     @Override
     public Response getAllProducts() {
-        List<ProductDTO> productDTOs = productRepository.findByIsDeletedFalse()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        List<ProductDTO> productDTOs = productCatalogCache.getLiveProducts(() -> {
+            List<ProductDTO> rows = productRepository.findLiveListRows();
+            rows.forEach(row -> row.setImageVariants(ProductImageStore.variantUrls(row.getImageUrl())));
+            return rows;
+        });
 
         return Response.builder()
                 .status(200)
@@ -129,34 +195,77 @@ public class ProductServiceImpl implements ProductService {
                 .build();
     }
 
+    // ------------------- LOW STOCK -------------------
+    @Override
+    public Response getLowStockProducts() {
+        return Response.builder()
+                .status(200)
+                .message("success")
+                .lowStockAlerts(lowStockAlertEngine.getAlerts())
+                .build();
+    }
+
     // ------------------- GET PRODUCT BY ID -------------------
     @Override
     public Response getProductById(Long id) {
-        return productRepository.findById(id)
-                .map(product -> Response.builder()
-                        .status(200)
-                        .message("Product fetched successfully")
-                        .product(toDTO(product))
-                        .build())
-                .orElse(Response.builder()
-                        .status(404)
-                        .message("Product not found")
-                        .build());
+        ProductDTO productDTO = productCatalogCache.getProduct(id,
+                key -> productRepository.findById(key).map(productMapper::toDTO).orElse(null));
+
+        if (productDTO == null) {
+            return Response.builder()
+                    .status(404)
+                    .message("Product not found")
+                    .build();
+        }
+        return Response.builder()
+                .status(200)
+                .message("Product fetched successfully")
+                .product(productDTO)
+                .build();
+    }
+
+    @Override
+    public ProductCatalogCache.Stats getCatalogCacheStats() {
+        return productCatalogCache.stats();
     }
 
     // ------------------- SEARCH PRODUCTS -------------------
     @Override
-    public Response searchProduct(String input) {
-        List<ProductDTO> productDTOs = productRepository
-                .findByNameContainingOrDescriptionContaining(input, input)
-                .stream()
-                .map(this::toDTO)
+    public Response searchProduct(String input, int page, int size) {
+        if (page < 0) throw new NameValueRequiredException("page must not be negative");
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE)
+            throw new NameValueRequiredException("size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+
+        if (!productSearchIndex.isReady()) {
+            // index still loading: same semantics straight from the database
+            Page<Product> results = productRepository.searchLive(input, PageRequest.of(page, size));
+            return Response.builder()
+                    .status(200)
+                    .message("Search results")
+                    .products(results.getContent().stream().map(productMapper::toDTO).collect(Collectors.toList()))
+                    .totalElements(results.getTotalElements())
+                    .totalPages(results.getTotalPages())
+                    .build();
+        }
+
+        // ranked ids from the trigram index, then one query for just this page
+        ProductSearchIndex.SearchPage results = productSearchIndex.search(input, page, size);
+        List<Long> ids = Arrays.stream(results.ids()).boxed().toList();
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<ProductDTO> productDTOs = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(productMapper::toDTO)
                 .collect(Collectors.toList());
 
         return Response.builder()
                 .status(200)
                 .message("Search results")
                 .products(productDTOs)
+                .totalElements(results.totalElements())
+                .totalPages((int) Math.ceil((double) results.totalElements() / size))
                 .build();
     }
     @Override
@@ -169,30 +278,60 @@ public Response reduceStock(Long productId, Integer quantity) {
                 .build();
     }
 
-    Product product = productOpt.get();
-
-    if (product.getStockQuantity() < quantity) {
+    // conditional decrement in the database so concurrent callers cannot oversell
+    if (productRepository.decrementStock(productId, quantity) == 0) {
         return Response.builder()
                 .status(400)
                 .message("Insufficient stock")
                 .build();
     }
+    productCatalogCache.invalidateAfterCommit(List.of(productId));
+    lowStockAlertEngine.refreshAfterCommit(List.of(productId));
 
-    product.setStockQuantity(product.getStockQuantity() - quantity);
-    productRepository.save(product);
+    Product product = productRepository.findById(productId).orElse(productOpt.get());
 
     return Response.builder()
             .status(200)
             .message("Stock updated successfully")
-            .product(toDTO(product))
+            .product(productMapper.toDTO(product))
             .build();
     }
     @Override
-    public List<ProductDTO> getAllProductsDTO() {
-    return productRepository.findByIsDeletedFalse()
-            .stream()
-            .map(this::toDTO)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public void writeProductsCsv(Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.row("Product ID", "Name", "SKU", "Price", "Stock Quantity", "Category", "Description", "Expiry Date");
+
+        try (Stream<Product> products = productRepository.streamLiveProducts()) {
+            Iterator<Product> rows = products.iterator();
+            while (rows.hasNext()) {
+                Product product = rows.next();
+                csv.value(product.getId())
+                        .value(product.getName())
+                        .value(product.getSku())
+                        .value(product.getPrice() != null ? product.getPrice().setScale(2, RoundingMode.HALF_UP).toPlainString() : null)
+                        .value(product.getStockQuantity())
+                        .value(product.getCategory() != null ? product.getCategory().getId() : null)
+                        .value(product.getDescription())
+                        .value(product.getExpiryDate())
+                        .endRow();
+
+                // keep the persistence context (and heap) flat however big the catalog is
+                entityManager.detach(product);
+            }
+        }
+        csv.flush();
+    }
+
+    @Override
+    public Response importProductsCsv(Reader reader) throws IOException {
+        ProductImportReport report = productCsvImporter.importCsv(reader);
+
+        return Response.builder()
+                .status(200)
+                .message(report.getImportedRows() + " of " + report.getTotalRows() + " products imported")
+                .importReport(report)
+                .build();
     }
 
 
@@ -201,43 +340,17 @@ public Response reduceStock(Long productId, Integer quantity) {
     // ------------------- HELPER METHODS -------------------
     private String saveImage(MultipartFile imageFile) {
         try {
-            File dir = new File(IMAGE_DIRECTORY);
-            if (!dir.exists()) dir.mkdirs();
-
-            String uniqueFileName = UUID.randomUUID() + "_" + imageFile.getOriginalFilename();
-            File dest = new File(dir, uniqueFileName);
-            imageFile.transferTo(dest);
-
-            return IMAGE_BASE_URL + uniqueFileName; // frontend can fetch this
+            return productImageStore.store(imageFile); // frontend can fetch this
+        } catch (InvalidImageException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error saving image: " + e.getMessage());
         }
     }
 
-    private void deleteImageFile(String imageUrl) {
-        if (imageUrl != null && !imageUrl.isEmpty()) {
-            try {
-                String fileName = imageUrl.replace(IMAGE_BASE_URL, "");
-                File file = new File(IMAGE_DIRECTORY, fileName);
-                if (file.exists()) file.delete();
-            } catch (Exception e) {
-                System.err.println("Failed to delete image: " + e.getMessage());
-            }
+    private void releaseImage(String imageUrl) {
+        if (imageUrl != null && !imageUrl.isEmpty() && !productRepository.existsByImageUrlAndIsDeletedFalse(imageUrl)) {
+            productImageStore.delete(imageUrl);
         }
     }
-
-    private ProductDTO toDTO(Product product) {
-        ProductDTO dto = new ProductDTO();
-        dto.setProductId(product.getId());
-        dto.setName(product.getName());
-        dto.setSku(product.getSku());
-        dto.setPrice(product.getPrice());
-        dto.setStockQuantity(product.getStockQuantity());
-        dto.setDescription(product.getDescription());
-        dto.setImageUrl(product.getImageUrl());
-        dto.setExpiryDate(product.getExpiryDate());
-        if (product.getCategory() != null) dto.setCategoryId(product.getCategory().getId());
-        dto.setCreatedAt(product.getCreatedAt());
-        return dto;
-    }
 }
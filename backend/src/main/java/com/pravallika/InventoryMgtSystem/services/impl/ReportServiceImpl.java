@@ -0,0 +1,128 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.exceptions.NameValueRequiredException;
+import com.pravallika.InventoryMgtSystem.repositories.DailyProductStatsRepository;
+import com.pravallika.InventoryMgtSystem.repositories.TransactionRepository;
+import com.pravallika.InventoryMgtSystem.services.ReportService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+@Slf4j
+public class ReportServiceImpl implements ReportService {
+
+    private final DailyProductStatsRepository dailyProductStatsRepository;
+    private final TransactionRepository transactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int backfillThreads;
+    private final int backfillChunkSize;
+
+    public ReportServiceImpl(DailyProductStatsRepository dailyProductStatsRepository,
+                             TransactionRepository transactionRepository,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${inventory.reports.backfill.threads:4}") int backfillThreads,
+                             @Value("${inventory.reports.backfill.chunk-size:50000}") int backfillChunkSize) {
+        this.dailyProductStatsRepository = dailyProductStatsRepository;
+        this.transactionRepository = transactionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.backfillThreads = backfillThreads;
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    @Override
+    public Response getSummary(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return Response.builder()
+                .status(200)
+                .message("success")
+                .summaries(dailyProductStatsRepository.summarizeByType(from, to))
+                .build();
+    }
+
+    @Override
+    public Response getProductStats(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return Response.builder()
+                .status(200)
+                .message("success")
+                .productStats(dailyProductStatsRepository.summarizeByProduct(from, to))
+                .build();
+    }
+
+    // Rebuilds daily_product_stats into a staging table from parallel id-range chunks, then swaps it in with one
+    // RENAME TABLE, so reports keep reading the old totals until the new ones are complete and a failed chunk leaves
+    // them untouched. Transactions added while the chunks run are caught up before the swap; increments that land
+    // on the old table after the last catch-up are dropped with it, so writes should still be quiet while it runs.
+    @Override
+    public synchronized Response backfillDailyStats() {
+        long started = System.currentTimeMillis();
+        Long minId = transactionRepository.findMinId();
+        Long maxId = transactionRepository.findMaxId();
+        if (minId == null) {
+            return Response.builder()
+                    .status(200)
+                    .message("No transactions to backfill")
+                    .build();
+        }
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS daily_product_stats_staging");
+        jdbcTemplate.execute("CREATE TABLE daily_product_stats_staging LIKE daily_product_stats");
+
+        ExecutorService workers = Executors.newFixedThreadPool(backfillThreads);
+        int chunkCount = 0;
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long from = minId; from <= maxId; from += backfillChunkSize) {
+                long fromId = from;
+                long toId = Math.min(from + backfillChunkSize - 1, maxId);
+                chunks.add(workers.submit(() -> dailyProductStatsRepository.backfillRange(fromId, toId)));
+            }
+            for (Future<Integer> chunk : chunks) {
+                chunk.get();
+                chunkCount++;
+            }
+
+            Long latestId = transactionRepository.findMaxId();
+            while (latestId > maxId) {
+                dailyProductStatsRepository.backfillRange(maxId + 1, latestId);
+                chunkCount++;
+                maxId = latestId;
+                latestId = transactionRepository.findMaxId();
+            }
+        } catch (Exception e) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS daily_product_stats_staging");
+            throw new IllegalStateException("Daily stats backfill failed: " + e.getMessage(), e);
+        } finally {
+            workers.shutdown();
+        }
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS daily_product_stats_old");
+        jdbcTemplate.execute("RENAME TABLE daily_product_stats TO daily_product_stats_old, " +
+                "daily_product_stats_staging TO daily_product_stats");
+        jdbcTemplate.execute("DROP TABLE daily_product_stats_old");
+
+        log.info("Backfilled daily product stats in {} chunks in {} ms", chunkCount, System.currentTimeMillis() - started);
+        return Response.builder()
+                .status(200)
+                .message("Daily stats rebuilt from " + chunkCount + " chunks")
+                .build();
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) throw new NameValueRequiredException("from and to dates are Required");
+        if (to.isBefore(from)) throw new NameValueRequiredException("to date must not be before from date");
+    }
+}
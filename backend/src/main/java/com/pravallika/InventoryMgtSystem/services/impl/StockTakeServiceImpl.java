@@ -0,0 +1,153 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pravallika.InventoryMgtSystem.alerts.LowStockAlertEngine;
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.dtos.StockCountLine;
+import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
+import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+import com.pravallika.InventoryMgtSystem.exceptions.NameValueRequiredException;
+import com.pravallika.InventoryMgtSystem.exceptions.NotFoundException;
+import com.pravallika.InventoryMgtSystem.metrics.InventoryMetrics;
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+import com.pravallika.InventoryMgtSystem.models.User;
+import com.pravallika.InventoryMgtSystem.repositories.TransactionRepository;
+import com.pravallika.InventoryMgtSystem.search.TransactionSearchIndex;
+import com.pravallika.InventoryMgtSystem.services.StockTakeService;
+import com.pravallika.InventoryMgtSystem.services.UserService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies a cycle count in one transaction. The sheet is loaded into a temporary table so the deltas against the
+ * current stock come from a single join, which also locks the counted products (in id order) until commit. Stock
+ * is then set with one UPDATE ... JOIN, and an ADJUSTMENT transaction is inserted for every line whose count
+ * differs, using Hibernate's JDBC batching in flushed chunks. Any unknown SKU rejects the whole sheet.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockTakeServiceImpl implements StockTakeService {
+
+    private static final int INSERT_CHUNK = 1000;
+    private static final int MAX_REPORTED_SKUS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionRepository transactionRepository;
+    private final UserService userService;
+    private final DailyProductStatsRecorder dailyProductStatsRecorder;
+    private final TransactionSearchIndex transactionSearchIndex;
+    private final ProductCatalogCache productCatalogCache;
+    private final InventoryMetrics inventoryMetrics;
+    private final LowStockAlertEngine lowStockAlertEngine;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Response applyStockTake(List<StockCountLine> countSheet) {
+        if (countSheet == null || countSheet.isEmpty())
+            throw new NameValueRequiredException("At least one count line is Required");
+
+        Set<String> skus = new HashSet<>();
+        for (StockCountLine line : countSheet) {
+            if (!skus.add(line.getSku())) throw new NameValueRequiredException("SKU " + line.getSku() + " is counted twice");
+        }
+
+        long started = System.currentTimeMillis();
+        jdbcTemplate.execute("DROP TEMPORARY TABLE IF EXISTS stock_take_lines");
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE stock_take_lines (sku VARCHAR(255) PRIMARY KEY, counted INT NOT NULL)");
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO stock_take_lines (sku, counted) VALUES (?, ?)", countSheet, INSERT_CHUNK,
+                    (statement, line) -> {
+                        statement.setString(1, line.getSku());
+                        statement.setInt(2, line.getCountedQuantity());
+                    });
+
+            //one set-based read of every delta; FOR UPDATE keeps sales from moving the stock until commit
+            List<StockDelta> deltas = jdbcTemplate.query(
+                    "SELECT p.id, p.price, p.stock_quantity, t.counted FROM products p " +
+                    "JOIN stock_take_lines t ON t.sku = p.sku WHERE p.is_deleted = false ORDER BY p.id FOR UPDATE",
+                    (rs, rowNum) -> new StockDelta(rs.getLong(1), rs.getBigDecimal(2), rs.getInt(3), rs.getInt(4)));
+
+            if (deltas.size() != countSheet.size()) {
+                List<String> unknown = jdbcTemplate.queryForList(
+                        "SELECT t.sku FROM stock_take_lines t " +
+                        "LEFT JOIN products p ON p.sku = t.sku AND p.is_deleted = false WHERE p.id IS NULL LIMIT " + MAX_REPORTED_SKUS,
+                        String.class);
+                throw new NotFoundException("Products Not Found for SKU " + String.join(", ", unknown));
+            }
+
+            List<StockDelta> changed = deltas.stream().filter(delta -> delta.counted() != delta.current()).toList();
+            if (!changed.isEmpty()) {
+                jdbcTemplate.update("UPDATE products p JOIN stock_take_lines t ON t.sku = p.sku " +
+                        "SET p.stock_quantity = t.counted WHERE p.is_deleted = false AND NOT (p.stock_quantity <=> t.counted)");
+                recordAdjustments(changed);
+                productCatalogCache.invalidateAll();
+                lowStockAlertEngine.refreshAfterCommit(changed.stream().map(StockDelta::productId).toList());
+            }
+
+            long netUnits = changed.stream().mapToLong(delta -> delta.counted() - delta.current()).sum();
+            log.info("Stock take of {} lines adjusted {} products (net {} units) in {} ms",
+                    countSheet.size(), changed.size(), netUnits, System.currentTimeMillis() - started);
+
+            return Response.builder()
+                    .status(200)
+                    .message("Stock take applied: " + changed.size() + " of " + countSheet.size()
+                            + " products adjusted, net " + (netUnits > 0 ? "+" : "") + netUnits + " units")
+                    .build();
+        } finally {
+            jdbcTemplate.execute("DROP TEMPORARY TABLE IF EXISTS stock_take_lines");
+        }
+    }
+
+    private void recordAdjustments(List<StockDelta> changed) {
+        User user = userService.getCurrentUserReference();
+        List<Long> transactionIds = new ArrayList<>(changed.size());
+
+        for (int from = 0; from < changed.size(); from += INSERT_CHUNK) {
+            List<Transaction> chunk = new ArrayList<>(INSERT_CHUNK);
+            for (StockDelta delta : changed.subList(from, Math.min(from + INSERT_CHUNK, changed.size()))) {
+                int units = delta.counted() - delta.current();
+                chunk.add(Transaction.builder()
+                        .transactionType(TransactionType.ADJUSTMENT)
+                        .status(TransactionStatus.COMPLETED)
+                        .product(entityManager.getReference(Product.class, delta.productId()))
+                        .user(user)
+                        .totalProducts(units)
+                        .totalPrice(delta.price() != null ? delta.price().multiply(BigDecimal.valueOf(units)) : BigDecimal.ZERO)
+                        .description("Stock take")
+                        .note("Counted " + delta.counted() + ", system had " + delta.current())
+                        .build());
+            }
+
+            //inserted with JDBC batching (see hibernate.jdbc.batch_size), then let go so the context stays small
+            transactionRepository.saveAll(chunk);
+            dailyProductStatsRecorder.record(chunk);
+            chunk.forEach(transaction -> transactionIds.add(transaction.getId()));
+            entityManager.flush();
+            entityManager.clear();
+            user = userService.getCurrentUserReference();
+        }
+
+        transactionSearchIndex.refreshAfterCommit(transactionIds);
+        inventoryMetrics.recordTransactions(TransactionType.ADJUSTMENT, changed.size());
+    }
+
+    private record StockDelta(long productId, BigDecimal price, int current, int counted) {
+    }
+}
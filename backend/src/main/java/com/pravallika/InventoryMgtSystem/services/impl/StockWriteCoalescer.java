@@ -0,0 +1,219 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pravallika.InventoryMgtSystem.alerts.LowStockAlertEngine;
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
+import com.pravallika.InventoryMgtSystem.models.Transaction;
+import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
+import com.pravallika.InventoryMgtSystem.repositories.TransactionRepository;
+import com.pravallika.InventoryMgtSystem.search.TransactionSearchIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Optional single-writer path for hot products. Stock deltas are striped by product id onto a fixed set of
+ * worker threads; each worker drains whatever is queued, folds the deltas of one product into a single stock
+ * update and inserts the matching transactions in one batch. Callers block until their delta is committed
+ * or rejected.
+ * <p>
+ * Callers must not touch the database before submitting: the workers need connections from the same pool, and
+ * with open-in-view a request keeps any connection it has used until the response is written. So the caller
+ * hands over a callback that looks up what the transaction row needs and builds it; the worker runs it in its
+ * own transaction, with the caller's security context, and that same transaction applies the stock change and
+ * inserts the row.
+ */
+@Component
+@Slf4j
+public class StockWriteCoalescer {
+
+    private final ProductRepository productRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionSearchIndex transactionSearchIndex;
+    private final DailyProductStatsRecorder dailyProductStatsRecorder;
+    private final ProductCatalogCache productCatalogCache;
+    private final LowStockAlertEngine lowStockAlertEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int workerCount;
+    private final int maxBatch;
+
+    private final List<BlockingQueue<PendingWrite>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+
+    public StockWriteCoalescer(ProductRepository productRepository,
+                               TransactionRepository transactionRepository,
+                               TransactionSearchIndex transactionSearchIndex,
+                               DailyProductStatsRecorder dailyProductStatsRecorder,
+                               ProductCatalogCache productCatalogCache,
+                               LowStockAlertEngine lowStockAlertEngine,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${inventory.stock.coalescing.enabled:false}") boolean enabled,
+                               @Value("${inventory.stock.coalescing.workers:8}") int workerCount,
+                               @Value("${inventory.stock.coalescing.max-batch:256}") int maxBatch) {
+        this.productRepository = productRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionSearchIndex = transactionSearchIndex;
+        this.dailyProductStatsRecorder = dailyProductStatsRecorder;
+        this.productCatalogCache = productCatalogCache;
+        this.lowStockAlertEngine = lowStockAlertEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.maxBatch = maxBatch;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+            Thread worker = new Thread(() -> runWorker(queue), "stock-writer-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("Stock write coalescing enabled with {} workers", workerCount);
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a stock delta together with the callback that builds the transaction recording it, and waits for the
+     * outcome. An exception thrown by the callback (a missing product or supplier) is rethrown here.
+     *
+     * @return true if the delta was applied, false if it was rejected for insufficient stock
+     */
+    public boolean submit(Long productId, int delta, TransactionCallback<Transaction> buildTransaction) {
+        if (TransactionSynchronizationManager.isActualTransactionActive())
+            throw new IllegalStateException("Coalesced stock writes must be submitted outside a database transaction");
+
+        PendingWrite write = new PendingWrite(productId, delta, buildTransaction, SecurityContextHolder.getContext(),
+                new CompletableFuture<>());
+        queues.get(Math.floorMod(productId.hashCode(), workerCount)).add(write);
+
+        try {
+            return write.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void runWorker(BlockingQueue<PendingWrite> queue) {
+        List<PendingWrite> drained = new ArrayList<>(maxBatch);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                drained.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(drained, maxBatch - 1);
+
+            //group by product, keeping arrival order within each product
+            Map<Long, List<PendingWrite>> byProduct = new LinkedHashMap<>();
+            for (PendingWrite write : drained) {
+                byProduct.computeIfAbsent(write.productId(), id -> new ArrayList<>()).add(write);
+            }
+            byProduct.forEach(this::flush);
+            drained.clear();
+        }
+    }
+
+    private void flush(Long productId, List<PendingWrite> writes) {
+        try {
+            Set<PendingWrite> accepted = Collections.newSetFromMap(new IdentityHashMap<>());
+            accepted.addAll(transactionTemplate.execute(status -> applyWrites(productId, writes, status)));
+            for (PendingWrite write : writes) {
+                write.result().complete(accepted.contains(write));
+            }
+        } catch (Exception e) {
+            log.error("Coalesced stock write failed for product {}: {}", productId, e.getMessage());
+            writes.forEach(write -> write.result().completeExceptionally(e));
+        }
+    }
+
+    private List<PendingWrite> applyWrites(Long productId, List<PendingWrite> writes, TransactionStatus status) {
+        //build each row as its caller would have; a failed lookup only fails that write
+        List<PendingWrite> built = new ArrayList<>(writes.size());
+        List<Transaction> rows = new ArrayList<>(writes.size());
+        for (PendingWrite write : writes) {
+            SecurityContextHolder.setContext(write.securityContext());
+            try {
+                rows.add(write.buildTransaction().doInTransaction(status));
+                built.add(write);
+            } catch (RuntimeException e) {
+                write.result().completeExceptionally(e);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+        if (built.isEmpty()) return List.of();
+
+        //lock the row so the merged update cannot race writers outside the queue
+        Integer stock = productRepository.lockStockQuantity(productId);
+        if (stock == null) return List.of();
+
+        //accept deltas in arrival order while stock stays non-negative
+        List<PendingWrite> accepted = new ArrayList<>(built.size());
+        List<Transaction> transactions = new ArrayList<>(built.size());
+        int netDelta = 0;
+        for (int i = 0; i < built.size(); i++) {
+            PendingWrite write = built.get(i);
+            if (stock + netDelta + write.delta() >= 0) {
+                netDelta += write.delta();
+                accepted.add(write);
+                transactions.add(rows.get(i));
+            }
+        }
+
+        if (netDelta < 0) productRepository.decrementStock(productId, -netDelta);
+        else if (netDelta > 0) productRepository.incrementStock(productId, netDelta);
+        if (netDelta != 0) {
+            productCatalogCache.invalidateAfterCommit(List.of(productId));
+            lowStockAlertEngine.refreshAfterCommit(List.of(productId));
+        }
+
+        transactionRepository.saveAll(transactions);
+        dailyProductStatsRecorder.record(transactions);
+        transactionSearchIndex.refreshAfterCommit(transactions.stream().map(Transaction::getId).toList());
+        return accepted;
+    }
+
+    private record PendingWrite(Long productId, int delta, TransactionCallback<Transaction> buildTransaction,
+                                SecurityContext securityContext, CompletableFuture<Boolean> result) {
+    }
+}
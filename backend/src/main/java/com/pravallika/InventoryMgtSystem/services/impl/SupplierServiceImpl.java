@@ -4,13 +4,15 @@ package com.pravallika.InventoryMgtSystem.services.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.pravallika.InventoryMgtSystem.cache.CatalogVersions;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
 import com.pravallika.InventoryMgtSystem.dtos.SupplierDTO;
 import com.pravallika.InventoryMgtSystem.exceptions.NotFoundException;
+import com.pravallika.InventoryMgtSystem.mappers.SupplierMapper;
 import com.pravallika.InventoryMgtSystem.models.Supplier;
 import com.pravallika.InventoryMgtSystem.repositories.SupplierRepository;
 import com.pravallika.InventoryMgtSystem.services.SupplierService;
@@ -25,6 +27,8 @@ public class SupplierServiceImpl implements SupplierService {
 
     private final SupplierRepository supplierRepository;
     private final ModelMapper modelMapper;
+    private final SupplierMapper supplierMapper;
+    private final CatalogVersions catalogVersions;
 
 
     @Override
@@ -33,6 +37,7 @@ public class SupplierServiceImpl implements SupplierService {
         Supplier supplierToSave = modelMapper.map(supplierDTO, Supplier.class);
 
         supplierRepository.save(supplierToSave);
+        catalogVersions.bumpAfterCommit(CatalogVersions.Table.SUPPLIERS);
 
         return Response.builder()
                 .status(200)
@@ -51,6 +56,7 @@ public class SupplierServiceImpl implements SupplierService {
         if (supplierDTO.getAddress() != null) existingSupplier.setAddress(supplierDTO.getAddress());
 
         supplierRepository.save(existingSupplier);
+        catalogVersions.bumpAfterCommit(CatalogVersions.Table.SUPPLIERS);
 
         return Response.builder()
                 .status(200)
@@ -59,6 +65,7 @@ public class SupplierServiceImpl implements SupplierService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Response getAllSupplier() {
 
         // List<Supplier> suppliers = supplierRepository.findAll(Sort.by(Sort.Direction.DESC, "id"));
@@ -73,13 +80,8 @@ public class SupplierServiceImpl implements SupplierService {
         //         .build();
 
 
-          List<Supplier> supplierList = supplierRepository.findByIsDeletedFalse();
-
-    // Map entities to DTOs
-    List<SupplierDTO> supplierDTOList = modelMapper.map(
-            supplierList,
-            new TypeToken<List<SupplierDTO>>() {}.getType()
-    );
+    // Select the listed columns straight into DTOs
+    List<SupplierDTO> supplierDTOList = supplierRepository.findLiveListRows();
 
     return Response.builder()
             .status(200)
@@ -94,7 +96,7 @@ public class SupplierServiceImpl implements SupplierService {
         Supplier supplier = supplierRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Supplier Not Found"));
 
-        SupplierDTO supplierDTO = modelMapper.map(supplier, SupplierDTO.class);
+        SupplierDTO supplierDTO = supplierMapper.toDTO(supplier);
 
         return Response.builder()
                 .status(200)
@@ -122,6 +124,7 @@ public class SupplierServiceImpl implements SupplierService {
     supplier.setIsDeleted(true); // soft delete
 
     supplierRepository.save(supplier);
+    catalogVersions.bumpAfterCommit(CatalogVersions.Table.SUPPLIERS);
 
     return Response.builder()
             .status(200)
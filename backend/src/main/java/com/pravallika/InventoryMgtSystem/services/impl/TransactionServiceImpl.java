@@ -4,19 +4,29 @@ package com.pravallika.InventoryMgtSystem.services.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.pravallika.InventoryMgtSystem.alerts.LowStockAlertEngine;
+import com.pravallika.InventoryMgtSystem.cache.ProductCatalogCache;
 import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionCsvRow;
 import com.pravallika.InventoryMgtSystem.dtos.TransactionDTO;
 import com.pravallika.InventoryMgtSystem.dtos.TransactionRequest;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionSummaryDTO;
 import com.pravallika.InventoryMgtSystem.enums.TransactionStatus;
 import com.pravallika.InventoryMgtSystem.enums.TransactionType;
+import com.pravallika.InventoryMgtSystem.exceptions.InsufficientStockException;
+import com.pravallika.InventoryMgtSystem.metrics.InventoryMetrics;
+import com.pravallika.InventoryMgtSystem.metrics.RequestTiming;
 import com.pravallika.InventoryMgtSystem.exceptions.NameValueRequiredException;
 import com.pravallika.InventoryMgtSystem.exceptions.NotFoundException;
 import com.pravallika.InventoryMgtSystem.models.Product;
@@ -26,13 +36,31 @@ import com.pravallika.InventoryMgtSystem.models.User;
 import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
 import com.pravallika.InventoryMgtSystem.repositories.SupplierRepository;
 import com.pravallika.InventoryMgtSystem.repositories.TransactionRepository;
+import com.pravallika.InventoryMgtSystem.search.TransactionSearchIndex;
 import com.pravallika.InventoryMgtSystem.services.TransactionService;
 import com.pravallika.InventoryMgtSystem.services.UserService;
 import com.pravallika.InventoryMgtSystem.specification.TransactionFilter;
+import com.pravallika.InventoryMgtSystem.utils.CsvWriter;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -44,6 +72,15 @@ public class TransactionServiceImpl implements TransactionService {
     private final SupplierRepository supplierRepository;
     private final UserService userService;
     private final ModelMapper modelMapper;
+    private final StockWriteCoalescer stockWriteCoalescer;
+    private final TransactionSearchIndex transactionSearchIndex;
+    private final DailyProductStatsRecorder dailyProductStatsRecorder;
+    private final ProductCatalogCache productCatalogCache;
+    private final InventoryMetrics inventoryMetrics;
+    private final LowStockAlertEngine lowStockAlertEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
 
     @Override
     public Response purchase(TransactionRequest transactionRequest) {
@@ -54,32 +91,30 @@ public class TransactionServiceImpl implements TransactionService {
 
         if (supplierId == null) throw new NameValueRequiredException("Supplier Id is Required");
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new NotFoundException("Product Not Found"));
-
-        Supplier supplier = supplierRepository.findById(supplierId)
-                .orElseThrow(() -> new NotFoundException("Supplier Not Found"));
-
-        User user = userService.getCurrentLoggedInUser();
-
-        //update the stock quantity and re-save
-        product.setStockQuantity(product.getStockQuantity() + quantity);
-        productRepository.save(product);
-
-        //create a transaction
-        Transaction transaction = Transaction.builder()
-                .transactionType(TransactionType.PURCHASE)
-                .status(TransactionStatus.COMPLETED)
-                .product(product)
-                .user(user)
-                .supplier(supplier)
-                .totalProducts(quantity)
-                .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
-                .description(transactionRequest.getDescription())
-                .note(transactionRequest.getNote())
-                .build();
-
-        transactionRepository.save(transaction);
+        //apply the stock change and record the transaction (rejected if it would take stock below zero)
+        recordStockChange(productId, quantity, status -> {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new NotFoundException("Product Not Found"));
+
+            Supplier supplier = supplierRepository.findById(supplierId)
+                    .orElseThrow(() -> new NotFoundException("Supplier Not Found"));
+
+            User user = userService.getCurrentUserReference();
+
+            //create a transaction
+            return Transaction.builder()
+                    .transactionType(TransactionType.PURCHASE)
+                    .status(TransactionStatus.COMPLETED)
+                    .product(product)
+                    .user(user)
+                    .supplier(supplier)
+                    .totalProducts(quantity)
+                    .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                    .description(transactionRequest.getDescription())
+                    .note(transactionRequest.getNote())
+                    .build();
+        });
+        inventoryMetrics.recordTransactions(TransactionType.PURCHASE, 1);
         return Response.builder()
                 .status(200)
                 .message("Purchase Made successfully")
@@ -93,29 +128,26 @@ public class TransactionServiceImpl implements TransactionService {
         Long productId = transactionRequest.getProductId();
         Integer quantity = transactionRequest.getQuantity();
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new NotFoundException("Product Not Found"));
-
-        User user = userService.getCurrentLoggedInUser();
-
-        //update the stock quantity and re-save
-        product.setStockQuantity(product.getStockQuantity() - quantity);
-        productRepository.save(product);
-
-
-        //create a transaction
-        Transaction transaction = Transaction.builder()
-                .transactionType(TransactionType.SALE)
-                .status(TransactionStatus.COMPLETED)
-                .product(product)
-                .user(user)
-                .totalProducts(quantity)
-                .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
-                .description(transactionRequest.getDescription())
-                .note(transactionRequest.getNote())
-                .build();
-
-        transactionRepository.save(transaction);
+        //apply the stock change and record the transaction (rejected if it would take stock below zero)
+        recordStockChange(productId, -quantity, status -> {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new NotFoundException("Product Not Found"));
+
+            User user = userService.getCurrentUserReference();
+
+            //create a transaction
+            return Transaction.builder()
+                    .transactionType(TransactionType.SALE)
+                    .status(TransactionStatus.COMPLETED)
+                    .product(product)
+                    .user(user)
+                    .totalProducts(quantity)
+                    .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                    .description(transactionRequest.getDescription())
+                    .note(transactionRequest.getNote())
+                    .build();
+        });
+        inventoryMetrics.recordTransactions(TransactionType.SALE, 1);
         return Response.builder()
                 .status(200)
                 .message("Product Sale successfully made")
@@ -133,75 +165,203 @@ public class TransactionServiceImpl implements TransactionService {
 
         if (supplierId == null) throw new NameValueRequiredException("Supplier Id is Required");
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new NotFoundException("Product Not Found"));
-
-        Supplier supplier = supplierRepository.findById(supplierId)
-                .orElseThrow(() -> new NotFoundException("Supplier Not Found"));
-
-        User user = userService.getCurrentLoggedInUser();
+        //apply the stock change and record the transaction (rejected if it would take stock below zero)
+        recordStockChange(productId, -quantity, status -> {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new NotFoundException("Product Not Found"));
+
+            Supplier supplier = supplierRepository.findById(supplierId)
+                    .orElseThrow(() -> new NotFoundException("Supplier Not Found"));
+
+            User user = userService.getCurrentUserReference();
+
+            //create a transaction
+            return Transaction.builder()
+                    .transactionType(TransactionType.RETURN_TO_SUPPLIER)
+                    .status(TransactionStatus.PROCESSING)
+                    .product(product)
+                    .user(user)
+                    .totalProducts(quantity)
+                    .totalPrice(BigDecimal.ZERO)
+                    .description(transactionRequest.getDescription())
+                    .note(transactionRequest.getNote())
+                    .build();
+        });
+        inventoryMetrics.recordTransactions(TransactionType.RETURN_TO_SUPPLIER, 1);
 
-        //update the stock quantity and re-save
-        product.setStockQuantity(product.getStockQuantity() - quantity);
-        productRepository.save(product);
+        return Response.builder()
+                .status(200)
+                .message("Product Returned in progress")
+                .build();
 
+    }
 
-        //create a transaction
-        Transaction transaction = Transaction.builder()
-                .transactionType(TransactionType.RETURN_TO_SUPPLIER)
-                .status(TransactionStatus.PROCESSING)
-                .product(product)
-                .user(user)
-                .totalProducts(quantity)
-                .totalPrice(BigDecimal.ZERO)
-                .description(transactionRequest.getDescription())
-                .note(transactionRequest.getNote())
-                .build();
+    @Override
+    @Transactional
+    public Response processBatch(List<TransactionRequest> transactionRequests) {
+
+        if (transactionRequests == null || transactionRequests.isEmpty())
+            throw new NameValueRequiredException("At least one transaction line is Required");
+
+        Set<Long> productIds = new HashSet<>();
+        Set<Long> supplierIds = new HashSet<>();
+
+        for (TransactionRequest line : transactionRequests) {
+            TransactionType type = line.getTransactionType();
+            if (type == null) throw new NameValueRequiredException("Transaction Type is Required");
+            if (type == TransactionType.ADJUSTMENT)
+                throw new NameValueRequiredException("Adjustments are recorded through a stock take");
+            if (type != TransactionType.SALE && line.getSupplierId() == null)
+                throw new NameValueRequiredException("Supplier Id is Required");
+
+            productIds.add(line.getProductId());
+            if (line.getSupplierId() != null) supplierIds.add(line.getSupplierId());
+        }
+
+        //resolve every product and supplier with one IN query each
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() != productIds.size()) throw new NotFoundException("Product Not Found");
+
+        Map<Long, Supplier> suppliers = supplierRepository.findAllById(supplierIds).stream()
+                .collect(Collectors.toMap(Supplier::getId, Function.identity()));
+        if (suppliers.size() != supplierIds.size()) throw new NotFoundException("Supplier Not Found");
+
+        User user = userService.getCurrentUserReference();
+
+        //net stock change per product, sorted by id so concurrent batches lock rows in the same order
+        Map<Long, Integer> stockDeltas = new TreeMap<>();
+        List<Transaction> transactions = new ArrayList<>(transactionRequests.size());
+
+        for (TransactionRequest line : transactionRequests) {
+            Product product = products.get(line.getProductId());
+            Integer quantity = line.getQuantity();
+
+            Transaction.TransactionBuilder transaction = Transaction.builder()
+                    .transactionType(line.getTransactionType())
+                    .product(product)
+                    .user(user)
+                    .totalProducts(quantity)
+                    .description(line.getDescription())
+                    .note(line.getNote());
+
+            switch (line.getTransactionType()) {
+                case PURCHASE -> {
+                    stockDeltas.merge(product.getId(), quantity, Integer::sum);
+                    transaction.status(TransactionStatus.COMPLETED)
+                            .supplier(suppliers.get(line.getSupplierId()))
+                            .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)));
+                }
+                case SALE -> {
+                    stockDeltas.merge(product.getId(), -quantity, Integer::sum);
+                    transaction.status(TransactionStatus.COMPLETED)
+                            .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)));
+                }
+                case RETURN_TO_SUPPLIER -> {
+                    stockDeltas.merge(product.getId(), -quantity, Integer::sum);
+                    transaction.status(TransactionStatus.PROCESSING)
+                            .totalPrice(BigDecimal.ZERO);
+                }
+                case ADJUSTMENT -> throw new IllegalStateException("rejected above");
+            }
+            transactions.add(transaction.build());
+        }
+
+        //one conditional update per product; any oversell rolls back the whole batch
+        stockDeltas.forEach((productId, delta) -> {
+            if (delta != 0) applyStockDelta(productId, delta);
+        });
 
-        transactionRepository.save(transaction);
+        //inserted with JDBC batching (see hibernate.jdbc.batch_size)
+        transactionRepository.saveAll(transactions);
+        dailyProductStatsRecorder.record(transactions);
+        transactionSearchIndex.refreshAfterCommit(transactions.stream().map(Transaction::getId).toList());
+        transactions.stream()
+                .collect(Collectors.groupingBy(Transaction::getTransactionType, Collectors.summingInt(transaction -> 1)))
+                .forEach(inventoryMetrics::recordTransactions);
 
         return Response.builder()
                 .status(200)
-                .message("Product Returned in progress")
+                .message(transactions.size() + " Transactions processed successfully")
                 .build();
-
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Response getAllTransactions(int page, int size, String filter) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
 
-        //user the Transaction specification
-        Specification<Transaction> spec = TransactionFilter.byFilter(filter);
-        Page<Transaction> transactionPage = transactionRepository.findAll(spec, pageable);
-
-        List<TransactionDTO> transactionDTOS = modelMapper.map(transactionPage.getContent(), new TypeToken<List<TransactionDTO>>() {
-        }.getType());
-
-        transactionDTOS.forEach(transactionDTO -> {
-            transactionDTO.setUser(null);
-            transactionDTO.setProduct(null);
-            transactionDTO.setSupplier(null);
-        });
+        Page<TransactionDTO> transactionPage;
+        if (useSearchIndex(filter)) {
+            //free-text filter answered from the in-memory index, then only the page rows are loaded
+            long[] ids = transactionSearchIndex.search(filter);
+            int from = (int) Math.min(pageable.getOffset(), ids.length);
+            int to = Math.min(from + size, ids.length);
+            transactionPage = new PageImpl<>(findListRowsInIdOrder(Arrays.copyOfRange(ids, from, to)), pageable, ids.length);
+        } else {
+            //user the Transaction specification
+            Specification<Transaction> spec = TransactionFilter.byFilter(filter);
+            transactionPage = transactionRepository.findListRows(spec, pageable);
+        }
 
         return Response.builder()
                 .status(200)
                 .message("success")
-                .transactions(transactionDTOS)
+                .transactions(transactionPage.getContent())
                 .totalElements(transactionPage.getTotalElements())
                 .totalPages(transactionPage.getTotalPages())
                 .build();
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Response getTransactionsAfter(String after, int limit, String filter, boolean includeTotal) {
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_CURSOR_PAGE_SIZE);
+
+        Long afterId = after != null && !after.isBlank() ? decodeCursor(after) : null;
+        Long total = null;
+
+        //one extra row tells us whether another page exists, so no COUNT is needed
+        List<TransactionDTO> rows;
+        if (useSearchIndex(filter)) {
+            long[] ids = transactionSearchIndex.search(filter);
+            int from = afterId != null ? firstIdBelow(ids, afterId) : 0;
+            rows = findListRowsInIdOrder(Arrays.copyOfRange(ids, from, Math.min(from + pageSize + 1, ids.length)));
+            if (includeTotal) total = (long) ids.length;
+        } else {
+            Specification<Transaction> spec = TransactionFilter.byFilter(filter);
+            if (afterId != null) {
+                spec = spec.and(TransactionFilter.idBefore(afterId));
+            }
+            rows = transactionRepository.findListRows(spec, Sort.by(Sort.Direction.DESC, "id"), pageSize + 1);
+            if (includeTotal) total = transactionRepository.count(TransactionFilter.byFilter(filter));
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TransactionDTO> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return Response.builder()
+                .status(200)
+                .message("success")
+                .transactions(pageRows)
+                .nextCursor(hasMore ? encodeCursor(pageRows.get(pageRows.size() - 1).getId()) : null)
+                .totalElements(total)
+                .build();
+    }
+
     @Override
     public Response getAllTransactionById(Long id) {
 
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Transaction Not Found"));
 
+        //the lazy product, user and supplier are loaded during mapping, so this phase includes their queries
+        long mapStart = System.nanoTime();
         TransactionDTO transactionDTO = modelMapper.map(transaction, TransactionDTO.class);
+        RequestTiming.record(RequestTiming.Phase.MAPPING, System.nanoTime() - mapStart);
 
         transactionDTO.getUser().setTransactions(null);
 
@@ -213,25 +373,66 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Response getAllTransactionByMonthAndYear(int month, int year) {
-        List<Transaction> transactions = transactionRepository.findAll(TransactionFilter.byMonthAndYear(month, year));
+        validateMonth(month, year);
+        List<TransactionDTO> transactionDTOS = transactionRepository.findListRows(
+                TransactionFilter.byMonthAndYear(month, year), Sort.unsorted());
+
+        return Response.builder()
+                .status(200)
+                .message("success")
+                .transactions(transactionDTOS)
+                .build();
+    }
 
-        List<TransactionDTO> transactionDTOS = modelMapper.map(transactions, new TypeToken<List<TransactionDTO>>() {
-        }.getType());
+    @Override
+    public Response getMonthlySummary(int month, int year) {
+        validateMonth(month, year);
+        LocalDateTime start = LocalDate.of(year, month, 1).atStartOfDay();
 
-        transactionDTOS.forEach(transactionDTO -> {
-            transactionDTO.setUser(null);
-            transactionDTO.setProduct(null);
-            transactionDTO.setSupplier(null);
-        });
+        //counts and totals per transaction type, aggregated by the database
+        List<TransactionSummaryDTO> summaries = transactionRepository.summarizeByType(start, start.plusMonths(1));
 
         return Response.builder()
                 .status(200)
                 .message("success")
-                .transactions(transactionDTOS)
+                .summaries(summaries)
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void writeTransactionsCsv(LocalDate from, LocalDate to, Writer writer) throws IOException {
+        if (to.isBefore(from)) throw new NameValueRequiredException("to date must not be before from date");
+
+        CsvWriter csv = new CsvWriter(writer);
+        csv.row("Transaction ID", "Created At", "Type", "Status", "Total Products", "Total Price",
+                "Product ID", "Product Name", "SKU", "Supplier", "Description", "Note");
+
+        //projection rows, streamed with a fetch size; nothing is held in the persistence context
+        try (Stream<TransactionCsvRow> rows = transactionRepository.streamCsvRows(from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            Iterator<TransactionCsvRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TransactionCsvRow row = iterator.next();
+                csv.value(row.id())
+                        .value(row.createdAt())
+                        .value(row.transactionType())
+                        .value(row.status())
+                        .value(row.totalProducts())
+                        .value(row.totalPrice() != null ? row.totalPrice().toPlainString() : null)
+                        .value(row.productId())
+                        .value(row.productName())
+                        .value(row.productSku())
+                        .value(row.supplierName())
+                        .value(row.description())
+                        .value(row.note())
+                        .endRow();
+            }
+        }
+        csv.flush();
+    }
+
     @Override
     public Response updateTransactionStatus(Long transactionId, TransactionStatus status) {
 
@@ -242,6 +443,7 @@ public class TransactionServiceImpl implements TransactionService {
         existingTransaction.setUpdateAt(LocalDateTime.now());
 
         transactionRepository.save(existingTransaction);
+        transactionSearchIndex.refreshAfterCommit(List.of(existingTransaction.getId()));
 
         return Response.builder()
                 .status(200)
@@ -251,5 +453,81 @@ public class TransactionServiceImpl implements TransactionService {
 
     }
 
+    //the callback looks up what the row needs and builds it; the stock update and insert run in the same database
+    //transaction. Hot products can be funnelled through the coalescing writer instead, which runs the callback in
+    //its own transaction, so the waiting request never holds a pooled connection the writer needs.
+    private void recordStockChange(Long productId, int delta, TransactionCallback<Transaction> buildTransaction) {
+        if (stockWriteCoalescer.isEnabled()) {
+            if (!stockWriteCoalescer.submit(productId, delta, buildTransaction)) {
+                inventoryMetrics.recordOversellRejection();
+                throw new InsufficientStockException("Insufficient stock for product " + productId);
+            }
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Transaction transaction = buildTransaction.doInTransaction(status);
+            applyStockDelta(productId, delta);
+            transactionRepository.save(transaction);
+            dailyProductStatsRecorder.record(List.of(transaction));
+            transactionSearchIndex.refreshAfterCommit(List.of(transaction.getId()));
+        });
+    }
+
+    //single conditional UPDATE instead of read-modify-write, so concurrent writers on one product never lose updates
+    private void applyStockDelta(Long productId, int delta) {
+        int updated = delta < 0
+                ? productRepository.decrementStock(productId, -delta)
+                : productRepository.incrementStock(productId, delta);
+
+        if (updated == 0) {
+            inventoryMetrics.recordOversellRejection();
+            throw new InsufficientStockException("Insufficient stock for product " + productId);
+        }
+        productCatalogCache.invalidateAfterCommit(List.of(productId));
+        lowStockAlertEngine.refreshAfterCommit(List.of(productId));
+    }
+
+    private static void validateMonth(int month, int year) {
+        if (month < 1 || month > 12) throw new NameValueRequiredException("month must be between 1 and 12");
+        if (year < 1 || year > 9999) throw new NameValueRequiredException("year must be between 1 and 9999");
+    }
+
+    private boolean useSearchIndex(String filter) {
+        return filter != null && !filter.isEmpty() && transactionSearchIndex.isReady();
+    }
 
+    //loads the rows for ids found by the search index, keeping the index order (newest first)
+    private List<TransactionDTO> findListRowsInIdOrder(long[] ids) {
+        if (ids.length == 0) return List.of();
+
+        List<Long> idList = Arrays.stream(ids).boxed().toList();
+        Map<Long, TransactionDTO> byId = transactionRepository.findListRowsByIdIn(idList).stream()
+                .collect(Collectors.toMap(TransactionDTO::getId, Function.identity()));
+        return idList.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    //position of the first id lower than the cursor in a newest-first id array
+    private static int firstIdBelow(long[] newestFirst, long afterId) {
+        int low = 0, high = newestFirst.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (newestFirst[mid] < afterId) high = mid;
+            else low = mid + 1;
+        }
+        return low;
+    }
+
+    //cursors are opaque to clients; today they wrap the last id of the page
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new NameValueRequiredException("Invalid cursor");
+        }
+    }
 }
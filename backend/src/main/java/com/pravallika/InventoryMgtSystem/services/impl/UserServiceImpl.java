@@ -2,13 +2,11 @@ package com.pravallika.InventoryMgtSystem.services.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.pravallika.InventoryMgtSystem.dtos.LoginRequest;
 import com.pravallika.InventoryMgtSystem.dtos.RegisterRequest;
@@ -17,9 +15,12 @@ import com.pravallika.InventoryMgtSystem.dtos.UserDTO;
 import com.pravallika.InventoryMgtSystem.enums.UserRole;
 import com.pravallika.InventoryMgtSystem.exceptions.InvalidCredentialsException;
 import com.pravallika.InventoryMgtSystem.exceptions.NotFoundException;
+import com.pravallika.InventoryMgtSystem.mappers.UserMapper;
 import com.pravallika.InventoryMgtSystem.models.User;
 import com.pravallika.InventoryMgtSystem.repositories.UserRepository;
+import com.pravallika.InventoryMgtSystem.security.AuthUser;
 import com.pravallika.InventoryMgtSystem.security.JwtUtils;
+import com.pravallika.InventoryMgtSystem.security.VerifiedTokenCache;
 import com.pravallika.InventoryMgtSystem.services.UserService;
 
 import java.util.List;
@@ -31,8 +32,9 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
     private final JwtUtils jwtUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public Response registerUser(RegisterRequest registerRequest) {
@@ -63,7 +65,7 @@ public class UserServiceImpl implements UserService {
             throw new InvalidCredentialsException("Password Does Not Match");
         }
 
-        String token = jwtUtils.generateToken(user.getEmail());
+        String token = jwtUtils.generateToken(user);
 
         return Response.builder()
                 .status(200)
@@ -75,11 +77,9 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Response getAllUsers() {
-        List<User> users = userRepository.findAll(Sort.by(Sort.Direction.DESC, "id"));
-        users.forEach(user -> user.setTransactions(null));
-
-        List<UserDTO> userDTOs = modelMapper.map(users, new TypeToken<List<UserDTO>>() {}.getType());
+        List<UserDTO> userDTOs = userRepository.findListRows();
 
         return Response.builder()
             .status(200)
@@ -98,11 +98,21 @@ public class UserServiceImpl implements UserService {
         return user;
     }
 
+    @Override
+    public User getCurrentUserReference() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser
+                && authUser.getUser().getId() != null) {
+            //AuthFilter already resolved the user for this request; the proxy only carries the id for the foreign key
+            return userRepository.getReferenceById(authUser.getUser().getId());
+        }
+        return getCurrentLoggedInUser();
+    }
+
     @Override
     public Response getUserById(Long id) {
         User user = userRepository.findById(id).orElseThrow(() -> new NotFoundException("User Not Found"));
-        UserDTO userDTO = modelMapper.map(user, UserDTO.class);
-        userDTO.setTransactions(null);
+        UserDTO userDTO = userMapper.toDTO(user);
         return Response.builder()
                 .status(200)
                 .message("success")
@@ -114,6 +124,11 @@ public class UserServiceImpl implements UserService {
     public Response updateUser(Long id, UserDTO userDTO) {
         User existingUser = userRepository.findById(id).orElseThrow(() -> new NotFoundException("User Not Found"));
 
+        //cached tokens hold the email and role they were verified with, so changing either must evict them
+        String previousEmail = existingUser.getEmail();
+        boolean identityChanged = (userDTO.getEmail() != null && !userDTO.getEmail().equals(previousEmail))
+                || (userDTO.getRole() != null && userDTO.getRole() != existingUser.getRole());
+
         if (userDTO.getEmail() != null) existingUser.setEmail(userDTO.getEmail());
         if (userDTO.getPhoneNumber() != null) existingUser.setPhoneNumber(userDTO.getPhoneNumber());
         if (userDTO.getName() != null) existingUser.setName(userDTO.getName());
@@ -123,6 +138,8 @@ public class UserServiceImpl implements UserService {
 
         userRepository.save(existingUser);
 
+        if (identityChanged) verifiedTokenCache.invalidateUser(previousEmail);
+
         return Response.builder()
                 .status(200)
                 .message("User successfully updated")
@@ -131,8 +148,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Response deleteUser(Long id) {
-        userRepository.findById(id).orElseThrow(() -> new NotFoundException("User Not Found"));
+        User user = userRepository.findById(id).orElseThrow(() -> new NotFoundException("User Not Found"));
         userRepository.deleteById(id);
+        verifiedTokenCache.invalidateUser(user.getEmail());
 
         return Response.builder()
                 .status(200)
@@ -1,12 +1,13 @@
 package com.pravallika.InventoryMgtSystem.specification;
 
-import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.pravallika.InventoryMgtSystem.models.Transaction;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -70,19 +71,22 @@ public class TransactionFilter {
     }
 
 
+    // Keyset (seek) predicate for cursor paging: rows strictly older than the last id the client has seen
+    public static Specification<Transaction> idBefore(Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get("id"), id);
+    }
+
+
     // New method for filtering transactions by month and year
+    // Half-open [first day of month, first day of next month) range on created_at, so the index can be used
     public static Specification<Transaction> byMonthAndYear(int month, int year) {
-        return (root, query, criteriaBuilder) -> {
-            // Use the month and year functions on the createdAt date field
-            Expression<Integer> monthExpression = criteriaBuilder.function("month", Integer.class, root.get("createdAt"));
-            Expression<Integer> yearExpression = criteriaBuilder.function("year", Integer.class, root.get("createdAt"));
-
-            // Create predicates for the month and year
-            Predicate monthPredicate = criteriaBuilder.equal(monthExpression, month);
-            Predicate yearPredicate = criteriaBuilder.equal(yearExpression, year);
+        LocalDateTime start = LocalDate.of(year, month, 1).atStartOfDay();
+        return createdBetween(start, start.plusMonths(1));
+    }
 
-            // Combine the month and year predicates
-            return criteriaBuilder.and(monthPredicate, yearPredicate);
-        };
+    public static Specification<Transaction> createdBetween(LocalDateTime start, LocalDateTime end) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(root.get("createdAt"), start),
+                criteriaBuilder.lessThan(root.get("createdAt"), end));
     }
 }
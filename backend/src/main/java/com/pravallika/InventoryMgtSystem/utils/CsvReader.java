@@ -0,0 +1,102 @@
+package com.pravallika.InventoryMgtSystem.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader, the counterpart of {@link CsvWriter}. Rows are read one at a time through a fixed
+ * buffer, quoted fields may contain commas, doubled quotes and line breaks, and both LF and CRLF line ends are
+ * accepted. Memory use is bounded by the longest row, not the size of the input.
+ */
+public class CsvReader {
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private long line = 1;
+    private long rowLine;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * @return the fields of the next row, or null at the end of the input
+     */
+    public List<String> readRow() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        rowLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new IOException("Unterminated quoted field starting on line " + rowLine);
+                if (c == '"') {
+                    int next = peek();
+                    if (next == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '\r') {
+                if (peek() != '\n') line++;
+                fields.add(field.toString());
+                if (peek() == '\n') {
+                    read();
+                    line++;
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return the line on which the row last returned by {@link #readRow()} started, counting from 1
+     */
+    public long getRowLine() {
+        return rowLine;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) return false;
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
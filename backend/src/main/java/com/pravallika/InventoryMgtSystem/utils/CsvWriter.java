@@ -0,0 +1,66 @@
+package com.pravallika.InventoryMgtSystem.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Minimal RFC 4180 writer used by the streaming exports. Values containing a comma, quote or line break are
+ * quoted with embedded quotes doubled; nulls are written as empty fields. Nothing is buffered here, so wrap
+ * the target in a BufferedWriter.
+ */
+public class CsvWriter {
+
+    private final Writer out;
+    private boolean firstInRow = true;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public CsvWriter row(String... values) throws IOException {
+        for (String value : values) {
+            value(value);
+        }
+        return endRow();
+    }
+
+    public CsvWriter value(Object value) throws IOException {
+        if (!firstInRow) out.write(',');
+        firstInRow = false;
+        if (value != null) writeEscaped(value.toString());
+        return this;
+    }
+
+    public CsvWriter endRow() throws IOException {
+        out.write('\n');
+        firstInRow = true;
+        return this;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        if (!needsQuoting(value)) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+}
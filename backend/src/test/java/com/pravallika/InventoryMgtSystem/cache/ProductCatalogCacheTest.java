@@ -0,0 +1,48 @@
+package com.pravallika.InventoryMgtSystem.cache;
+
+import org.junit.jupiter.api.Test;
+
+import com.pravallika.InventoryMgtSystem.dtos.ProductDTO;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ProductCatalogCacheTest {
+
+	@Test
+	void countsHitsMissesAndEvictions() {
+		ProductCatalogCache cache = new ProductCatalogCache(new CatalogVersions(), 2);
+
+		ProductDTO first = cache.getProduct(1L, ProductCatalogCacheTest::product);
+		assertSame(first, cache.getProduct(1L, ProductCatalogCacheTest::product));
+		cache.getProduct(2L, ProductCatalogCacheTest::product);
+		cache.getProduct(3L, ProductCatalogCacheTest::product);
+
+		assertEquals(new ProductCatalogCache.Stats(2, 1, 3, 1), cache.stats());
+	}
+
+	@Test
+	void loadOverlappingAnInvalidationIsNotCached() {
+		ProductCatalogCache cache = new ProductCatalogCache(new CatalogVersions(), 10);
+
+		// the stock changes while the old row is being read
+		ProductDTO stale = cache.getProduct(1L, id -> {
+			cache.invalidateAfterCommit(List.of(id));
+			return product(id);
+		});
+		ProductDTO fresh = cache.getProduct(1L, ProductCatalogCacheTest::product);
+
+		assertEquals(stale, fresh);
+		assertEquals(2, cache.stats().misses());
+		assertSame(fresh, cache.getProduct(1L, ProductCatalogCacheTest::product));
+	}
+
+	private static ProductDTO product(Long id) {
+		ProductDTO dto = new ProductDTO();
+		dto.setProductId(id);
+		dto.setStockQuantity(10);
+		return dto;
+	}
+}
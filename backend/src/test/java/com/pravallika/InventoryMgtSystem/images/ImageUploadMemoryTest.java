@@ -0,0 +1,227 @@
+package com.pravallika.InventoryMgtSystem.images;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pravallika.InventoryMgtSystem.enums.UserRole;
+import com.pravallika.InventoryMgtSystem.models.User;
+import com.pravallika.InventoryMgtSystem.repositories.UserRepository;
+import com.pravallika.InventoryMgtSystem.security.JwtUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// runs in its own surefire execution with a small -Xmx (see pom.xml): far less heap than the uploads add up to
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"inventory.images.max-concurrent-uploads=2",
+		"inventory.images.upload-wait-ms=200",
+		"inventory.images.directory=${java.io.tmpdir}/inventory-upload-test",
+		// rejected uploads are read off the connection and discarded, so the client still sees the 503
+		"server.tomcat.max-swallow-size=-1"})
+@ActiveProfiles("h2")
+class ImageUploadMemoryTest {
+
+	private static final int UPLOAD_SIZE = 9 * 1024 * 1024;
+	private static final int CAP = 2;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	private String token;
+	private byte[] png;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		User admin = userRepository.save(User.builder()
+				.name("Catalog Admin")
+				.email(UUID.randomUUID() + "@example.com")
+				.password("secret")
+				.phoneNumber("0000000000")
+				.role(UserRole.ADMIN)
+				.build());
+		token = jwtUtils.generateToken(admin);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), "png", bytes);
+		png = bytes.toByteArray();
+	}
+
+	@Test
+	void uploadsBeyondTheCapAreTurnedAwayWhileOthersAreReceived() throws Exception {
+		CountDownLatch holdersSending = new CountDownLatch(CAP);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(CAP + 6);
+		try {
+			// these take every upload slot and then stall halfway through their bodies
+			List<Future<HttpResponse<String>>> holders = new ArrayList<>();
+			for (int i = 0; i < CAP; i++) {
+				holders.add(pool.submit(() -> upload(new Gate(holdersSending, release))));
+			}
+			assertTrue(holdersSending.await(10, TimeUnit.SECONDS));
+			Thread.sleep(300);
+
+			List<Future<HttpResponse<String>>> rejected = new ArrayList<>();
+			for (int i = 0; i < 6; i++) {
+				rejected.add(pool.submit(() -> upload(null)));
+			}
+			for (Future<HttpResponse<String>> future : rejected) {
+				HttpResponse<String> response = future.get(60, TimeUnit.SECONDS);
+				assertEquals(503, response.statusCode(), response.body());
+				assertEquals("1", response.headers().firstValue("Retry-After").orElse(null));
+			}
+
+			release.countDown();
+			for (Future<HttpResponse<String>> future : holders) {
+				assertSaved(future.get(60, TimeUnit.SECONDS));
+			}
+		} finally {
+			release.countDown();
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void concurrentLargeUploadsFitInASmallHeap() throws Exception {
+		int uploads = 24;
+		// the premise: held in memory at once, these uploads could not fit in this JVM's heap
+		assertTrue((long) uploads * UPLOAD_SIZE > Runtime.getRuntime().maxMemory(),
+				"run with a smaller -Xmx than " + (long) uploads * UPLOAD_SIZE + " bytes");
+
+		ExecutorService pool = Executors.newFixedThreadPool(uploads);
+		try {
+			List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+			for (int i = 0; i < uploads; i++) {
+				responses.add(pool.submit(this::uploadUntilAdmitted));
+			}
+			for (Future<HttpResponse<String>> response : responses) {
+				assertSaved(response.get(5, TimeUnit.MINUTES));
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	// a client that honours Retry-After, the way the 503 asks it to
+	private HttpResponse<String> uploadUntilAdmitted() throws Exception {
+		while (true) {
+			HttpResponse<String> response = upload(null);
+			if (response.statusCode() != 503) return response;
+			Thread.sleep(1000L * Long.parseLong(response.headers().firstValue("Retry-After").orElse("1")));
+		}
+	}
+
+	private static void assertSaved(HttpResponse<String> response) {
+		assertEquals(200, response.statusCode(), response.body());
+		assertTrue(response.body().contains("Product saved successfully"), response.body());
+	}
+
+	private HttpResponse<String> upload(Gate gate) throws Exception {
+		String boundary = "upload-" + UUID.randomUUID();
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products/add"))
+				.header("Authorization", "Bearer " + token)
+				.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+				.POST(HttpRequest.BodyPublishers.ofInputStream(() -> multipart(boundary, gate)))
+				.build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	// the form fields and a PNG padded out to UPLOAD_SIZE, generated as it is sent
+	private InputStream multipart(String boundary, Gate gate) {
+		String fields = field(boundary, "name", "Uploaded item")
+				+ field(boundary, "sku", "SKU-" + UUID.randomUUID())
+				+ field(boundary, "price", "5.00")
+				+ field(boundary, "stockQuantity", "1")
+				+ field(boundary, "categoryId", "1")
+				+ "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"imageFile\"; filename=\"large.png\"\r\n"
+				+ "Content-Type: image/png\r\n\r\n";
+		String end = "\r\n--" + boundary + "--\r\n";
+
+		InputStream head = new SequenceInputStream(
+				new ByteArrayInputStream(fields.getBytes(StandardCharsets.UTF_8)), new ByteArrayInputStream(png));
+		return new SequenceInputStream(new SequenceInputStream(head, new Padding(UPLOAD_SIZE - png.length, gate)),
+				new ByteArrayInputStream(end.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String field(String boundary, String name, String value) {
+		return "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+				+ value + "\r\n";
+	}
+
+	private record Gate(CountDownLatch sending, CountDownLatch release) {
+	}
+
+	// zero bytes after the image data; with a gate, the stream stops halfway until the gate is released
+	private static final class Padding extends InputStream {
+
+		private final long size;
+		private final Gate gate;
+		private long served;
+
+		private Padding(long size, Gate gate) {
+			this.size = size;
+			this.gate = gate;
+		}
+
+		@Override
+		public int read() {
+			byte[] one = new byte[1];
+			return read(one, 0, 1) < 0 ? -1 : 0;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) {
+			if (served >= size) return -1;
+			if (gate != null && served >= size / 2 && gate.release().getCount() > 0) {
+				gate.sending().countDown();
+				try {
+					gate.release().await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new UncheckedIOException(new IOException("upload interrupted"));
+				}
+			}
+
+			int count = (int) Math.min(length, size - served);
+			if (gate != null && served < size / 2) count = (int) Math.min(count, size / 2 - served);
+			Arrays.fill(buffer, offset, offset + count, (byte) 0);
+			served += count;
+			return count;
+		}
+	}
+}
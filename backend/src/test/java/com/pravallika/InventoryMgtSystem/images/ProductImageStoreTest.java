@@ -0,0 +1,118 @@
+package com.pravallika.InventoryMgtSystem.images;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.pravallika.InventoryMgtSystem.exceptions.InvalidImageException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductImageStoreTest {
+
+	private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+
+	@TempDir
+	Path directory;
+
+	private ProductImageStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new ProductImageStore(directory.toString(), "http://test/images/", 1024 * 1024, 100_000, 1, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		store.stop();
+	}
+
+	@Test
+	void namesTheFileAfterTheSniffedTypeNotTheFileName() throws Exception {
+		String url = store.store(png("photo.jpg", 20, 20));
+
+		assertTrue(url.endsWith(".png"), url);
+		assertEquals(1, countStored(".png"));
+	}
+
+	@Test
+	void rejectsContentThatIsNotAnImage() {
+		AtomicLong served = new AtomicLong();
+
+		assertThrows(InvalidImageException.class,
+				() -> store.store(upload("notes.png", "plain text".getBytes(), 500_000, served)));
+
+		// the type is checked on the first chunk, long before the whole stream is read
+		assertTrue(served.get() <= 64 * 1024, "read " + served.get() + " bytes");
+		assertEquals(0, countStored(""));
+	}
+
+	@Test
+	void stopsReadingOnceTheSizeLimitIsPassed() {
+		AtomicLong served = new AtomicLong();
+
+		assertThrows(InvalidImageException.class,
+				() -> store.store(upload("huge.png", PNG_HEADER, 1L << 30, served)));
+
+		assertTrue(served.get() < 2 * 1024 * 1024, "read " + served.get() + " bytes");
+		assertEquals(0, countStored(""));
+	}
+
+	@Test
+	void rejectsImagesOverThePixelLimitFromTheHeader() throws Exception {
+		// a few kilobytes on disk, but 160,000 pixels once decoded
+		MockMultipartFile wide = png("wide.png", 800, 200);
+		assertTrue(wide.getSize() < 1024 * 1024);
+
+		assertThrows(InvalidImageException.class, () -> store.store(wide));
+		assertEquals(0, countStored(""));
+	}
+
+	@Test
+	void rejectsAnImageWhoseHeaderCannotBeRead() throws Exception {
+		assertThrows(InvalidImageException.class,
+				() -> store.store(upload("broken.png", PNG_HEADER, 1000, new AtomicLong())));
+		assertEquals(0, countStored(""));
+	}
+
+	private long countStored(String suffix) throws Exception {
+		try (var files = Files.list(directory)) {
+			return files.filter(Files::isRegularFile).filter(p -> p.toString().endsWith(suffix)).count();
+		}
+	}
+
+	private static MockMultipartFile png(String name, int width, int height) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", bytes);
+		return new MockMultipartFile("imageFile", name, "image/png", bytes.toByteArray());
+	}
+
+	// a part whose body is generated on demand, so gigabyte uploads cost nothing unless they are actually read
+	private static MockMultipartFile upload(String name, byte[] header, long size, AtomicLong served) {
+		return new MockMultipartFile("imageFile", name, "image/png", new byte[0]) {
+			@Override
+			public InputStream getInputStream() {
+				return new InputStream() {
+					@Override
+					public int read() {
+						if (served.get() >= size) return -1;
+						long position = served.getAndIncrement();
+						return position < header.length ? header[(int) position] & 0xFF : (int) (position % 251);
+					}
+				};
+			}
+		};
+	}
+}
@@ -0,0 +1,43 @@
+package com.pravallika.InventoryMgtSystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class TrigramIndexTest {
+
+	@Test
+	void findsSubstringsCaseInsensitively() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "Steel Bowl");
+		index.put(2, "Dinner Set");
+		index.put(3, "bowl set");
+
+		assertArrayEquals(new int[]{1, 3}, index.search("BOWL"));
+		assertArrayEquals(new int[]{2, 3}, index.search("set"));
+		assertArrayEquals(new int[]{1}, index.search("l b"));
+		assertArrayEquals(new int[0], index.search("lbow"));
+	}
+
+	@Test
+	void shortQueriesFallBackToScan() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(5, "tv");
+		index.put(4, "sofa");
+
+		assertArrayEquals(new int[]{4, 5}, index.search(""));
+		assertArrayEquals(new int[]{5}, index.search("TV"));
+	}
+
+	@Test
+	void updatesAndRemovalsReplacePostings() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(7, "laptop");
+		index.put(7, "earpods");
+		index.put(8, "laptop bag");
+		index.remove(8);
+
+		assertArrayEquals(new int[0], index.search("laptop"));
+		assertArrayEquals(new int[]{7}, index.search("pods"));
+	}
+}
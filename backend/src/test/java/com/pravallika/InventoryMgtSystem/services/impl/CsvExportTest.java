@@ -0,0 +1,157 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pravallika.InventoryMgtSystem.dtos.TransactionRequest;
+import com.pravallika.InventoryMgtSystem.enums.UserRole;
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.models.User;
+import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
+import com.pravallika.InventoryMgtSystem.repositories.UserRepository;
+import com.pravallika.InventoryMgtSystem.security.AuthUser;
+import com.pravallika.InventoryMgtSystem.services.ProductService;
+import com.pravallika.InventoryMgtSystem.services.TransactionService;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class CsvExportTest {
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@AfterEach
+	void signOut() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void productExportStreamsEveryLiveProductWithoutGrowingThePersistenceContext() throws Exception {
+		String prefix = "CSV-" + UUID.randomUUID() + "-";
+		int count = 300;
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			products.add(Product.builder()
+					.name("Widget, \"large\" " + i)
+					.sku(prefix + i)
+					.price(new BigDecimal("1.50"))
+					.stockQuantity(i)
+					.isDeleted(false)
+					.build());
+		}
+		productRepository.saveAll(products);
+
+		// the export's transaction is bound to the writing thread, so the writer sees its persistence context
+		ContextWatchingWriter writer = new ContextWatchingWriter();
+		productService.writeProductsCsv(writer);
+
+		List<String> lines = lines(writer, prefix);
+		assertEquals(count, lines.size());
+		assertTrue(lines.get(0).contains(",\"Widget, \"\"large\"\" 0\"," + prefix + "0,1.50,0,"), lines.get(0));
+		assertTrue(writer.maxManagedEntities <= 1, "persistence context grew to " + writer.maxManagedEntities);
+	}
+
+	@Test
+	void transactionExportStreamsTheRangeWithEscapedValues() throws Exception {
+		User user = userRepository.save(User.builder()
+				.name("Stock Clerk")
+				.email(UUID.randomUUID() + "@example.com")
+				.password("secret")
+				.phoneNumber("0000000000")
+				.role(UserRole.MANAGER)
+				.build());
+		String sku = "CSV-" + UUID.randomUUID();
+		Product product = productRepository.save(Product.builder()
+				.name("Exported item")
+				.sku(sku)
+				.price(new BigDecimal("3.00"))
+				.stockQuantity(10)
+				.isDeleted(false)
+				.build());
+
+		AuthUser principal = AuthUser.builder().user(user).build();
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+		for (int i = 0; i < 3; i++) {
+			TransactionRequest request = new TransactionRequest();
+			request.setProductId(product.getId());
+			request.setQuantity(2);
+			request.setDescription("counter sale, \"walk-in\"");
+			transactionService.sell(request);
+		}
+
+		StringWriter writer = new StringWriter();
+		LocalDate today = LocalDate.now();
+		transactionService.writeTransactionsCsv(today.minusDays(1), today, writer);
+
+		List<String> lines = lines(writer, sku);
+		assertEquals(3, lines.size());
+		for (String line : lines) {
+			assertTrue(line.contains(",SALE,"), line);
+			assertTrue(line.contains(",2,6.00," + product.getId() + ",Exported item," + sku + ","), line);
+			assertTrue(line.contains(",\"counter sale, \"\"walk-in\"\"\","), line);
+		}
+
+		StringWriter empty = new StringWriter();
+		transactionService.writeTransactionsCsv(today.plusDays(1), today.plusDays(2), empty);
+		assertEquals(0, lines(empty, sku).size());
+	}
+
+	private static List<String> lines(Object writer, String marker) {
+		return Arrays.stream(writer.toString().split("\n"))
+				.filter(line -> line.contains(marker))
+				.toList();
+	}
+
+	private class ContextWatchingWriter extends StringWriter {
+
+		private int maxManagedEntities;
+
+		@Override
+		public void write(int c) {
+			watch();
+			super.write(c);
+		}
+
+		@Override
+		public void write(String str) {
+			watch();
+			super.write(str);
+		}
+
+		private void watch() {
+			int managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+			maxManagedEntities = Math.max(maxManagedEntities, managed);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pravallika.InventoryMgtSystem.alerts.LowStockAlertEngine;
+import com.pravallika.InventoryMgtSystem.dtos.TransactionRequest;
+import com.pravallika.InventoryMgtSystem.dtos.Response;
+import com.pravallika.InventoryMgtSystem.enums.UserRole;
+import com.pravallika.InventoryMgtSystem.models.Category;
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.models.User;
+import com.pravallika.InventoryMgtSystem.repositories.CategoryRepository;
+import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
+import com.pravallika.InventoryMgtSystem.repositories.UserRepository;
+import com.pravallika.InventoryMgtSystem.security.AuthUser;
+import com.pravallika.InventoryMgtSystem.services.CategoryService;
+import com.pravallika.InventoryMgtSystem.services.TransactionService;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Hibernate statistics are global, so the components that query in the background after a commit are switched off
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"inventory.search.transactions.enabled=false"})
+@ActiveProfiles("h2")
+class StatementCountTest {
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockBean
+	private LowStockAlertEngine lowStockAlertEngine;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void signOut() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void saleTakesTheUserFromThePrincipal() {
+		User user = userRepository.save(User.builder()
+				.name("Stock Clerk")
+				.email(UUID.randomUUID() + "@example.com")
+				.password("secret")
+				.phoneNumber("0000000000")
+				.role(UserRole.MANAGER)
+				.build());
+		Product product = productRepository.save(Product.builder()
+				.name("Counted item")
+				.sku("SKU-" + UUID.randomUUID())
+				.price(new BigDecimal("2.00"))
+				.stockQuantity(100)
+				.isDeleted(false)
+				.build());
+
+		AuthUser principal = AuthUser.builder().user(user).build();
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+		// the first sale also allocates a block of transaction ids
+		transactionService.sell(sale(product.getId()));
+		statistics.clear();
+
+		transactionService.sell(sale(product.getId()));
+
+		// product select, conditional stock update, transaction insert, daily stats upsert; no user query
+		assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+		assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getFetchCount());
+		assertTrue(statistics.getPrepareStatementCount() <= 4,
+				"sale prepared " + statistics.getPrepareStatementCount() + " statements");
+	}
+
+	@Test
+	void categoryListingsDoNotQueryPerCategory() {
+		addCategories(3);
+		long listingWithFew = countStatements(categoryService::getAllCategories);
+		long summariesWithFew = countStatements(categoryService::getCategorySummaries);
+
+		addCategories(12);
+		long listingWithMany = countStatements(categoryService::getAllCategories);
+		long summariesWithMany = countStatements(categoryService::getCategorySummaries);
+
+		// categories, then all their live products in one query; the summary is a single grouped query
+		assertTrue(listingWithFew <= 2, "listing prepared " + listingWithFew + " statements");
+		assertEquals(listingWithFew, listingWithMany);
+		assertEquals(1, summariesWithFew);
+		assertEquals(summariesWithFew, summariesWithMany);
+	}
+
+	private void addCategories(int count) {
+		for (int i = 0; i < count; i++) {
+			Category category = categoryRepository.save(Category.builder()
+					.name("Category " + UUID.randomUUID())
+					.isDeleted(false)
+					.build());
+			for (int j = 0; j < 3; j++) {
+				productRepository.save(Product.builder()
+						.name("Listed item " + j)
+						.sku("SKU-" + UUID.randomUUID())
+						.price(new BigDecimal("1.00"))
+						.stockQuantity(5)
+						.category(category)
+						.isDeleted(j == 2)
+						.build());
+			}
+		}
+	}
+
+	private long countStatements(Supplier<Response> listing) {
+		statistics.clear();
+		Response response = listing.get();
+		assertEquals(200, response.getStatus());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private static TransactionRequest sale(Long productId) {
+		TransactionRequest request = new TransactionRequest();
+		request.setProductId(productId);
+		request.setQuantity(1);
+		return request;
+	}
+}
@@ -0,0 +1,128 @@
+package com.pravallika.InventoryMgtSystem.services.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pravallika.InventoryMgtSystem.dtos.TransactionRequest;
+import com.pravallika.InventoryMgtSystem.enums.UserRole;
+import com.pravallika.InventoryMgtSystem.exceptions.InsufficientStockException;
+import com.pravallika.InventoryMgtSystem.models.Product;
+import com.pravallika.InventoryMgtSystem.models.User;
+import com.pravallika.InventoryMgtSystem.repositories.ProductRepository;
+import com.pravallika.InventoryMgtSystem.repositories.UserRepository;
+import com.pravallika.InventoryMgtSystem.security.AuthUser;
+import com.pravallika.InventoryMgtSystem.services.TransactionService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class TransactionServiceImplTest {
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User user;
+
+	@BeforeEach
+	void createUser() {
+		user = userRepository.save(User.builder()
+				.name("Stock Clerk")
+				.email(UUID.randomUUID() + "@example.com")
+				.password("secret")
+				.phoneNumber("0000000000")
+				.role(UserRole.MANAGER)
+				.build());
+	}
+
+	@AfterEach
+	void signOut() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void concurrentSalesOfTheLastUnitsNeverOversell() throws Exception {
+		int stock = 5;
+		int buyers = 40;
+		Product product = createProduct(stock);
+
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger sold = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		ExecutorService pool = Executors.newFixedThreadPool(buyers);
+		try {
+			List<Future<?>> sales = new ArrayList<>();
+			for (int i = 0; i < buyers; i++) {
+				sales.add(pool.submit(() -> {
+					signIn();
+					start.await();
+					try {
+						transactionService.sell(sale(product.getId(), 1));
+						sold.incrementAndGet();
+					} catch (InsufficientStockException e) {
+						rejected.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> sale : sales) {
+				sale.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals(stock, sold.get());
+		assertEquals(buyers - stock, rejected.get());
+		assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+	}
+
+	private Product createProduct(int stock) {
+		return productRepository.save(Product.builder()
+				.name("Last units")
+				.sku("SKU-" + UUID.randomUUID())
+				.price(new BigDecimal("9.99"))
+				.stockQuantity(stock)
+				.isDeleted(false)
+				.build());
+	}
+
+	private void signIn() {
+		AuthUser principal = AuthUser.builder().user(user).build();
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	private static TransactionRequest sale(Long productId, int quantity) {
+		TransactionRequest request = new TransactionRequest();
+		request.setProductId(productId);
+		request.setQuantity(quantity);
+		request.setDescription("test sale");
+		return request;
+	}
+}
@@ -0,0 +1,42 @@
+package com.pravallika.InventoryMgtSystem.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CsvReaderTest {
+
+	@Test
+	void readsBackWhatCsvWriterWrites() throws Exception {
+		StringWriter out = new StringWriter();
+		new CsvWriter(out)
+				.row("1", "Cola, 330ml", "SKU-1")
+				.row("2", "Say \"cheese\"", "multi\nline")
+				.row("3", null, "");
+
+		CsvReader csv = new CsvReader(new StringReader(out.toString()));
+
+		assertEquals(List.of("1", "Cola, 330ml", "SKU-1"), csv.readRow());
+		assertEquals(1, csv.getRowLine());
+		assertEquals(List.of("2", "Say \"cheese\"", "multi\nline"), csv.readRow());
+		assertEquals(2, csv.getRowLine());
+		assertEquals(List.of("3", "", ""), csv.readRow());
+		assertEquals(4, csv.getRowLine());
+		assertNull(csv.readRow());
+	}
+
+	@Test
+	void acceptsCrlfAndAMissingFinalLineBreak() throws Exception {
+		CsvReader csv = new CsvReader(new StringReader("a,b\r\nc,d"));
+
+		assertEquals(List.of("a", "b"), csv.readRow());
+		assertEquals(List.of("c", "d"), csv.readRow());
+		assertEquals(2, csv.getRowLine());
+		assertNull(csv.readRow());
+	}
+}